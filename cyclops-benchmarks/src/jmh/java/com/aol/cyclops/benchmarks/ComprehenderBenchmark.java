@@ -0,0 +1,100 @@
+package com.aol.cyclops.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.aol.cyclops.internal.comprehensions.comprehenders.StreamComprehender;
+import com.aol.cyclops.types.extensability.Comprehender;
+
+/**
+ * Benchmarks each Comprehender operation against the native call it wraps.
+ *
+ * Subclasses supply the cases for a single integration module, selected via a JMH type parameter.
+ * Every result is materialized (see {@link ComprehenderCase#materialize(java.util.function.Function)}) so lazy types are
+ * measured including evaluation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public abstract class ComprehenderBenchmark {
+
+    /**
+     * Number of elements in sequential types
+     */
+    public static final int SIZE = 100;
+
+    /**
+     * Target for resolveForCrossTypeFlatMap, the JDK Stream Comprehender
+     */
+    private static final Comprehender STREAM = new StreamComprehender();
+
+    ComprehenderCase c;
+
+    /**
+     * @return Case selected by the type parameter of the subclass
+     */
+    protected abstract ComprehenderCase<?> comprehenderCase();
+
+    @Setup
+    public void setup() {
+        c = comprehenderCase();
+    }
+
+    @Benchmark
+    public Object map() {
+        return c.materialize.apply(c.comprehender.map(c.value, c.mapper));
+    }
+
+    @Benchmark
+    public Object nativeMap() {
+        return c.materialize.apply(c.nativeMap.apply(c.value));
+    }
+
+    @Benchmark
+    public Object flatMap() {
+        return c.materialize.apply(c.comprehender.flatMap(c.value, c::flatMapper));
+    }
+
+    @Benchmark
+    public Object executeflatMap() {
+        return c.materialize.apply(c.comprehender.executeflatMap(c.value, c::flatMapper));
+    }
+
+    @Benchmark
+    public Object nativeFlatMap() {
+        return c.materialize.apply(c.nativeFlatMap.apply(c.value));
+    }
+
+    @Benchmark
+    public Object filter() {
+        return c.materialize.apply(c.comprehender.filter(c.value, c.predicate));
+    }
+
+    @Benchmark
+    public Object nativeFilter() {
+        return c.materialize.apply(c.nativeFilter.apply(c.value));
+    }
+
+    @Benchmark
+    public Object resolveForCrossTypeFlatMap() {
+        return ComprehenderCase.iterate(c.comprehender.resolveForCrossTypeFlatMap(STREAM, c.value));
+    }
+
+    @Benchmark
+    public Object nativeToStream() {
+        return ComprehenderCase.iterate(c.nativeToStream.apply(c.value));
+    }
+}
@@ -0,0 +1,94 @@
+package com.aol.cyclops.benchmarks;
+
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import com.aol.cyclops.types.extensability.Comprehender;
+
+/**
+ * A single Comprehender under benchmark, the value it operates on and the native calls it wraps
+ *
+ * The default mapper and predicate operate on Integers, flatMap builds its result with the Comprehender's own of
+ * method. Native functions should call the same library method as the Comprehender.
+ *
+ * @param <T> Type wrapped by the Comprehender
+ */
+public class ComprehenderCase<T> {
+
+    final Comprehender comprehender;
+    final T value;
+    Function<Object, Object> mapper = i -> (Integer) i + 1;
+    Predicate<Object> predicate = i -> (Integer) i % 2 == 0;
+    Function<? super T, ?> nativeMap;
+    Function<? super T, ?> nativeFlatMap;
+    Function<? super T, ?> nativeFilter;
+    Function<? super T, ?> nativeToStream;
+    Function<Object, ?> materialize = ComprehenderCase::iterate;
+
+    private ComprehenderCase(Comprehender comprehender, T value) {
+        this.comprehender = comprehender;
+        this.value = value;
+    }
+
+    public static <T> ComprehenderCase<T> of(Comprehender<? super T> comprehender, T value) {
+        return new ComprehenderCase<>(comprehender, value);
+    }
+
+    /**
+     * @param mapper Function used by map (and, via the Comprehender's of method, flatMap)
+     * @param predicate Predicate used by filter
+     * @return this
+     */
+    public ComprehenderCase<T> functions(Function<Object, Object> mapper, Predicate<Object> predicate) {
+        this.mapper = mapper;
+        this.predicate = predicate;
+        return this;
+    }
+
+    /**
+     * @param map Native equivalent of Comprehender#map
+     * @param flatMap Native equivalent of Comprehender#flatMap
+     * @param filter Native equivalent of Comprehender#filter
+     * @param toStream Native conversion to a java.util.stream.Stream, equivalent of Comprehender#resolveForCrossTypeFlatMap
+     * @return this
+     */
+    public ComprehenderCase<T> natives(Function<? super T, ?> map, Function<? super T, ?> flatMap,
+            Function<? super T, ?> filter, Function<? super T, ?> toStream) {
+        this.nativeMap = map;
+        this.nativeFlatMap = flatMap;
+        this.nativeFilter = filter;
+        this.nativeToStream = toStream;
+        return this;
+    }
+
+    /**
+     * @param materialize Function that forces evaluation of a (possibly lazy) result of this type
+     * @return this
+     */
+    public ComprehenderCase<T> materialize(Function<Object, ?> materialize) {
+        this.materialize = materialize;
+        return this;
+    }
+
+    Object flatMapper(Object in) {
+        return comprehender.of(mapper.apply(in));
+    }
+
+    static Object iterate(Object o) {
+        if (o instanceof java.util.stream.BaseStream)
+            return count(((java.util.stream.BaseStream) o).iterator());
+        if (o instanceof Iterable)
+            return count(((Iterable) o).iterator());
+        return o;
+    }
+
+    private static long count(Iterator it) {
+        long count = 0;
+        while (it.hasNext()) {
+            it.next();
+            count++;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,148 @@
+package com.aol.cyclops.benchmarks;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.openjdk.jmh.annotations.Param;
+
+import com.aol.cyclops.functionaljava.comprehenders.EitherComprehender;
+import com.aol.cyclops.functionaljava.comprehenders.IOComprehender;
+import com.aol.cyclops.functionaljava.comprehenders.IterableWComprehender;
+import com.aol.cyclops.functionaljava.comprehenders.LeftProjectionComprehender;
+import com.aol.cyclops.functionaljava.comprehenders.ListComprehender;
+import com.aol.cyclops.functionaljava.comprehenders.OptionComprehender;
+import com.aol.cyclops.functionaljava.comprehenders.ReaderComprehender;
+import com.aol.cyclops.functionaljava.comprehenders.RightProjectionComprehender;
+import com.aol.cyclops.functionaljava.comprehenders.StateComprehender;
+import com.aol.cyclops.functionaljava.comprehenders.StreamComprehender;
+import com.aol.cyclops.functionaljava.comprehenders.TrampolineComprehender;
+import com.aol.cyclops.functionaljava.comprehenders.ValidationComprehender;
+import com.aol.cyclops.functionaljava.comprehenders.WriterComprehender;
+
+import fj.P;
+import fj.control.Trampoline;
+import fj.data.Either;
+import fj.data.IO;
+import fj.data.IOFunctions;
+import fj.data.IterableW;
+import fj.data.Java8;
+import fj.data.List;
+import fj.data.Option;
+import fj.data.Reader;
+import fj.data.State;
+import fj.data.Stream;
+import fj.data.Validation;
+import fj.data.Writer;
+
+/**
+ * Comprehenders registered by cyclops-functionaljava
+ *
+ * Where FunctionalJava has no native filter, the native benchmark binds to either the value or the Comprehender's
+ * empty representation, as the default Comprehender filter does. The empty Writer has an Option based log which can't
+ * be combined with the String log of Writer.unit, so the Writer filter predicate always passes.
+ */
+public class FunctionalJavaComprehenderBenchmark extends ComprehenderBenchmark {
+
+    static final Map<String, ComprehenderCase<?>> CASES = new HashMap<>();
+
+    static {
+        CASES.put("Either", ComprehenderCase.of(new EitherComprehender(), Either.<String, Integer> right(1))
+                                            .natives(e -> e.right()
+                                                           .map(i -> i + 1),
+                                                     e -> e.right()
+                                                           .bind(i -> Either.<String, Integer> right(i + 1)),
+                                                     e -> e.right()
+                                                           .filter(i -> i % 2 == 0),
+                                                     e -> Java8.Iterable_JavaStream(e.right())));
+        CASES.put("IO", ComprehenderCase.of(new IOComprehender(), IOFunctions.unit(1))
+                                        .natives(io -> IOFunctions.map(io, i -> i + 1),
+                                                 io -> IOFunctions.flatMap(io, i -> IOFunctions.unit(i + 1)),
+                                                 io -> IOFunctions.flatMap(io,
+                                                                           i -> i % 2 == 0 ? IOFunctions.<Object> unit(i)
+                                                                                   : IOFunctions.<Object> unit(Option.none())),
+                                                 io -> java.util.stream.Stream.of(run(io)))
+                                        .materialize(io -> run((IO) io)));
+        CASES.put("IterableW", ComprehenderCase.of(new IterableWComprehender(), IterableW.wrap(List.range(0, SIZE)))
+                                               .natives(w -> w.map(i -> i + 1),
+                                                        w -> w.bind(i -> IterableW.wrap(Arrays.asList(i + 1))),
+                                                        w -> w.bind(i -> i % 2 == 0 ? IterableW.wrap(Arrays.asList(i))
+                                                                : IterableW.wrap(Collections.<Integer> emptyList())),
+                                                        w -> Java8.Iterable_JavaStream(w)));
+        CASES.put("LeftProjection", ComprehenderCase.of(new LeftProjectionComprehender(), Either.<Integer, String> left(1)
+                                                                                                .left())
+                                                    .natives(l -> l.map(i -> i + 1),
+                                                             l -> l.bind(i -> Either.<Integer, String> left(i + 1)),
+                                                             l -> l.filter(i -> i % 2 == 0),
+                                                             l -> Java8.Iterable_JavaStream(l)));
+        CASES.put("List", ComprehenderCase.of(new ListComprehender(), List.range(0, SIZE))
+                                          .natives(l -> l.map(i -> i + 1), l -> l.bind(i -> List.single(i + 1)),
+                                                   l -> l.filter(i -> i % 2 == 0), l -> Java8.List_JavaStream(l)));
+        CASES.put("Option", ComprehenderCase.of(new OptionComprehender(), Option.some(1))
+                                            .natives(o -> o.map(i -> i + 1), o -> o.bind(i -> Option.some(i + 1)),
+                                                     o -> o.filter(i -> i % 2 == 0), o -> Java8.Iterable_JavaStream(o)));
+        CASES.put("Reader", ComprehenderCase.of(new ReaderComprehender(), Reader.<Integer, Integer> unit(i -> i + 1))
+                                            .natives(r -> r.map(i -> i + 1),
+                                                     r -> r.bind(i -> Reader.<Integer, Integer> constant(i + 1)),
+                                                     r -> r.bind(i -> i % 2 == 0 ? Reader.<Integer, Object> constant(i)
+                                                             : Reader.<Integer, Object> constant(null)),
+                                                     r -> java.util.stream.Stream.of(r.getFunction()))
+                                            .materialize(r -> ((Reader) r).f(1)));
+        CASES.put("RightProjection", ComprehenderCase.of(new RightProjectionComprehender(), Either.<String, Integer> right(1)
+                                                                                                  .right())
+                                                     .natives(r -> r.map(i -> i + 1),
+                                                              r -> r.bind(i -> Either.<String, Integer> right(i + 1)),
+                                                              r -> r.filter(i -> i % 2 == 0),
+                                                              r -> Java8.Iterable_JavaStream(r)));
+        CASES.put("Stream", ComprehenderCase.of(new StreamComprehender(), Stream.range(0, SIZE))
+                                            .natives(s -> s.map(i -> i + 1), s -> s.bind(i -> Stream.single(i + 1)),
+                                                     s -> s.filter(i -> i % 2 == 0), s -> Java8.Stream_JavaStream(s)));
+        CASES.put("State", ComprehenderCase.of(new StateComprehender(), State.<Integer, Integer> unit(s -> P.p(s, 1)))
+                                           .natives(s -> s.map(i -> i + 1),
+                                                    s -> s.flatMap(i -> State.<Integer, Integer> constant(i + 1)),
+                                                    s -> s.flatMap(i -> i % 2 == 0 ? State.<Integer, Object> constant(i)
+                                                            : State.<Integer, Object> constant(Option.none())),
+                                                    s -> java.util.stream.Stream.of(s.run(null)
+                                                                                     ._2()))
+                                           .materialize(s -> ((State) s).run(0)));
+        CASES.put("Trampoline", ComprehenderCase.of(new TrampolineComprehender(), Trampoline.pure(1))
+                                                .natives(t -> t.map(i -> i + 1), t -> t.bind(i -> Trampoline.pure(i + 1)),
+                                                         t -> t.bind(i -> i % 2 == 0 ? Trampoline.<Object> pure(i)
+                                                                 : Trampoline.<Object> pure(Option.none())),
+                                                         t -> java.util.stream.Stream.of(t.run()))
+                                                .materialize(t -> ((Trampoline) t).run()));
+        CASES.put("Validation", ComprehenderCase.of(new ValidationComprehender(), Validation.<String, Integer> success(1))
+                                                .natives(v -> v.map(i -> i + 1),
+                                                         v -> v.bind(i -> Validation.<String, Integer> success(i + 1)),
+                                                         v -> v.filter(i -> i % 2 == 0),
+                                                         v -> v.isSuccess() ? java.util.stream.Stream.of(v.success())
+                                                                 : java.util.stream.Stream.empty()));
+        CASES.put("Writer", ComprehenderCase.of(new WriterComprehender(), Writer.unit(1))
+                                            .functions(i -> (Integer) i + 1, i -> (Integer) i > 0)
+                                            .natives(w -> w.map(i -> i + 1), w -> w.flatMap(i -> Writer.unit(i + 1)),
+                                                     w -> w.flatMap(i -> i > 0 ? Writer.<Object> unit(i)
+                                                             : Writer.<Object> unit(Option.none())),
+                                                     w -> java.util.stream.Stream.of(w.value()))
+                                            .materialize(w -> ((Writer) w).value()));
+    }
+
+    @Param({ "Either", "IO", "IterableW", "LeftProjection", "List", "Option", "Reader", "RightProjection", "Stream",
+             "State", "Trampoline", "Validation", "Writer" })
+    public String type;
+
+    @Override
+    protected ComprehenderCase<?> comprehenderCase() {
+        return CASES.get(type);
+    }
+
+    private static Object run(IO<?> io) {
+        try {
+            return io.run();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
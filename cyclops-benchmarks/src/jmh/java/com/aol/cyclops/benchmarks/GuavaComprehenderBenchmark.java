@@ -0,0 +1,48 @@
+package com.aol.cyclops.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.openjdk.jmh.annotations.Param;
+
+import com.aol.cyclops.guava.comprehenders.FluentIterableComprehender;
+import com.aol.cyclops.guava.comprehenders.OptionalComprehender;
+import com.google.common.base.Optional;
+import com.google.common.collect.ContiguousSet;
+import com.google.common.collect.DiscreteDomain;
+import com.google.common.collect.FluentIterable;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Range;
+
+/**
+ * Comprehenders registered by cyclops-guava
+ *
+ * Guava's Optional has no flatMap or filter, the native benchmarks use the equivalent isPresent checks.
+ */
+public class GuavaComprehenderBenchmark extends ComprehenderBenchmark {
+
+    static final Map<String, ComprehenderCase<?>> CASES = new HashMap<>();
+
+    static {
+        CASES.put("FluentIterable",
+                  ComprehenderCase.of(new FluentIterableComprehender(), FluentIterable.from(ContiguousSet.create(Range.closedOpen(0, SIZE),
+                                                                                                                DiscreteDomain.integers())))
+                                  .natives(f -> f.transform(i -> i + 1), f -> f.transformAndConcat(i -> ImmutableList.of(i + 1)),
+                                           f -> f.filter(i -> i % 2 == 0), f -> StreamSupport.stream(f.spliterator(), false)));
+        CASES.put("Optional", ComprehenderCase.of(new OptionalComprehender(), Optional.of(1))
+                                              .natives(o -> o.transform(i -> i + 1),
+                                                       o -> o.isPresent() ? Optional.of(o.get() + 1) : Optional.absent(),
+                                                       o -> o.isPresent() && o.get() % 2 == 0 ? o : Optional.absent(),
+                                                       o -> o.isPresent() ? Stream.of(o.get()) : Stream.empty()));
+    }
+
+    @Param({ "FluentIterable", "Optional" })
+    public String type;
+
+    @Override
+    protected ComprehenderCase<?> comprehenderCase() {
+        return CASES.get(type);
+    }
+}
@@ -0,0 +1,118 @@
+package com.aol.cyclops.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.openjdk.jmh.annotations.Param;
+
+import com.aol.cyclops.javaslang.FusedTraversable;
+import com.aol.cyclops.javaslang.comprehenders.ArrayComprehender;
+import com.aol.cyclops.javaslang.comprehenders.CharSeqComprehender;
+import com.aol.cyclops.javaslang.comprehenders.EitherComprehender;
+import com.aol.cyclops.javaslang.comprehenders.FusedTraversableComprehender;
+import com.aol.cyclops.javaslang.comprehenders.FutureComprehender;
+import com.aol.cyclops.javaslang.comprehenders.HashSetComprehender;
+import com.aol.cyclops.javaslang.comprehenders.LeftProjectionComprehender;
+import com.aol.cyclops.javaslang.comprehenders.ListComprehender;
+import com.aol.cyclops.javaslang.comprehenders.OptionComprehender;
+import com.aol.cyclops.javaslang.comprehenders.QueueComprehender;
+import com.aol.cyclops.javaslang.comprehenders.RightProjectionComprehender;
+import com.aol.cyclops.javaslang.comprehenders.StreamComprehender;
+import com.aol.cyclops.javaslang.comprehenders.TryComprehender;
+import com.aol.cyclops.javaslang.comprehenders.VectorComprehender;
+
+import javaslang.collection.Array;
+import javaslang.collection.CharSeq;
+import javaslang.collection.HashSet;
+import javaslang.collection.List;
+import javaslang.collection.Queue;
+import javaslang.collection.Stream;
+import javaslang.collection.Vector;
+import javaslang.concurrent.Future;
+import javaslang.control.Either;
+import javaslang.control.Option;
+import javaslang.control.Try;
+
+/**
+ * Comprehenders registered by cyclops-javaslang
+ */
+public class JavaslangComprehenderBenchmark extends ComprehenderBenchmark {
+
+    static final Map<String, ComprehenderCase<?>> CASES = new HashMap<>();
+
+    static {
+        CASES.put("Try", ComprehenderCase.of(new TryComprehender(), Try.success(1))
+                                         .natives(t -> t.map(i -> i + 1), t -> t.flatMap(i -> Try.success(i + 1)),
+                                                  t -> t.filter(i -> i % 2 == 0), t -> t.toJavaStream()));
+        CASES.put("List", ComprehenderCase.of(new ListComprehender(), List.range(0, SIZE))
+                                          .natives(l -> l.map(i -> i + 1), l -> l.flatMap(i -> List.of(i + 1)),
+                                                   l -> l.filter(i -> i % 2 == 0), l -> l.toJavaStream()));
+        CASES.put("Stream", ComprehenderCase.of(new StreamComprehender(), Stream.range(0, SIZE))
+                                            .natives(s -> s.map(i -> i + 1), s -> s.flatMap(i -> Stream.of(i + 1)),
+                                                     s -> s.filter(i -> i % 2 == 0), s -> s.toJavaStream()));
+        CASES.put("Either", ComprehenderCase.of(new EitherComprehender(), Either.<String, Integer> right(1))
+                                            .natives(e -> e.right()
+                                                           .map(i -> i + 1),
+                                                     e -> e.right()
+                                                           .flatMap(i -> Either.<String, Integer> right(i + 1)
+                                                                             .right()),
+                                                     e -> e.right()
+                                                           .filter(i -> i % 2 == 0),
+                                                     e -> e.right()
+                                                           .toJavaStream()));
+        CASES.put("Option", ComprehenderCase.of(new OptionComprehender(), Option.of(1))
+                                            .natives(o -> o.map(i -> i + 1), o -> o.flatMap(i -> Option.of(i + 1)),
+                                                     o -> o.filter(i -> i % 2 == 0), o -> o.toJavaStream()));
+        CASES.put("LeftProjection",
+                  ComprehenderCase.of(new LeftProjectionComprehender(), Either.<Integer, String> left(1)
+                                                                              .left())
+                                  .natives(l -> l.map(i -> i + 1), l -> l.flatMap(i -> Either.<Integer, String> left(i + 1)
+                                                                                            .left()),
+                                           l -> l.filter(i -> i % 2 == 0), l -> l.toJavaStream()));
+        CASES.put("RightProjection",
+                  ComprehenderCase.of(new RightProjectionComprehender(), Either.<String, Integer> right(1)
+                                                                               .right())
+                                  .natives(r -> r.map(i -> i + 1), r -> r.flatMap(i -> Either.<String, Integer> right(i + 1)
+                                                                                             .right()),
+                                           r -> r.filter(i -> i % 2 == 0), r -> r.toJavaStream()));
+        CASES.put("Future", ComprehenderCase.of(new FutureComprehender(), Future.successful(1))
+                                            .natives(f -> f.map(i -> i + 1), f -> f.flatMap(i -> Future.successful(i + 1)),
+                                                     f -> f.filter(i -> i % 2 == 0), f -> f.toJavaStream())
+                                            .materialize(f -> {
+                                                Future future = (Future) f;
+                                                future.await();
+                                                return future.getValue();
+                                            }));
+        CASES.put("Array", ComprehenderCase.of(new ArrayComprehender(), Array.range(0, SIZE))
+                                           .natives(a -> a.map(i -> i + 1), a -> a.flatMap(i -> Array.of(i + 1)),
+                                                    a -> a.filter(i -> i % 2 == 0), a -> a.toJavaStream()));
+        CASES.put("CharSeq", ComprehenderCase.of(new CharSeqComprehender(), CharSeq.of("cyclops comprehender benchmark"))
+                                             .functions(c -> Character.toUpperCase((Character) c),
+                                                        c -> Character.isUpperCase((Character) c))
+                                             .natives(c -> c.map(Character::toUpperCase),
+                                                      c -> c.flatMap(i -> CharSeq.of(Character.toUpperCase(i))),
+                                                      c -> c.filter(Character::isUpperCase), c -> c.toJavaStream()));
+        CASES.put("Vector", ComprehenderCase.of(new VectorComprehender(), Vector.range(0, SIZE))
+                                            .natives(v -> v.map(i -> i + 1), v -> v.flatMap(i -> Vector.of(i + 1)),
+                                                     v -> v.filter(i -> i % 2 == 0), v -> v.toJavaStream()));
+        CASES.put("Queue", ComprehenderCase.of(new QueueComprehender(), Queue.range(0, SIZE))
+                                           .natives(q -> q.map(i -> i + 1), q -> q.flatMap(i -> Queue.of(i + 1)),
+                                                    q -> q.filter(i -> i % 2 == 0), q -> q.toJavaStream()));
+        CASES.put("HashSet", ComprehenderCase.of(new HashSetComprehender(), HashSet.range(0, SIZE))
+                                             .natives(h -> h.map(i -> i + 1), h -> h.flatMap(i -> HashSet.of(i + 1)),
+                                                      h -> h.filter(i -> i % 2 == 0), h -> h.toJavaStream()));
+        CASES.put("Fused", ComprehenderCase.of(new FusedTraversableComprehender(),
+                                               FusedTraversable.of(Vector.range(0, SIZE)))
+                                           .natives(f -> f.map(i -> i + 1), f -> f.flatMap(i -> Vector.of(i + 1)),
+                                                    f -> f.filter(i -> i % 2 == 0), f -> f.stream()));
+    }
+
+    @Param({ "Try", "List", "Stream", "Either", "Option", "LeftProjection", "RightProjection", "Future", "Array",
+             "CharSeq", "Vector", "Queue", "HashSet", "Fused" })
+    public String type;
+
+    @Override
+    protected ComprehenderCase<?> comprehenderCase() {
+        return CASES.get(type);
+    }
+}
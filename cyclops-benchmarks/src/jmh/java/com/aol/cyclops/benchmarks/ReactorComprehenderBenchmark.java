@@ -0,0 +1,62 @@
+package com.aol.cyclops.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.openjdk.jmh.annotations.Param;
+
+import com.aol.cyclops.data.collections.extensions.standard.ListX;
+import com.aol.cyclops.reactor.comprehenders.FluxComprehender;
+import com.aol.cyclops.reactor.comprehenders.FluxTSeqComprehender;
+import com.aol.cyclops.reactor.comprehenders.FluxTValueComprehender;
+import com.aol.cyclops.reactor.comprehenders.MonoComprehender;
+import com.aol.cyclops.reactor.transformer.FluxT;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Comprehenders registered by cyclops-reactor
+ *
+ * The native benchmarks for the transformer types call the FluxT methods directly, measuring the cost of going via
+ * AnyM on top of the transformer itself.
+ */
+public class ReactorComprehenderBenchmark extends ComprehenderBenchmark {
+
+    static final Map<String, ComprehenderCase<?>> CASES = new HashMap<>();
+
+    static {
+        CASES.put("Flux", ComprehenderCase.of(new FluxComprehender(), Flux.range(0, SIZE))
+                                          .natives(f -> f.map(i -> i + 1), f -> f.flatMap(i -> Flux.just(i + 1)),
+                                                   f -> f.filter(i -> i % 2 == 0), f -> f.toStream())
+                                          .materialize(ReactorComprehenderBenchmark::block));
+        CASES.put("Mono", ComprehenderCase.of(new MonoComprehender(), Mono.just(1))
+                                          .natives(m -> m.map(i -> i + 1), m -> m.then(i -> Mono.just(i + 1)),
+                                                   m -> m.filter(i -> i % 2 == 0), m -> Flux.from(m)
+                                                                                            .toStream())
+                                          .materialize(ReactorComprehenderBenchmark::block));
+        CASES.put("FluxTSeq", ComprehenderCase.of(new FluxTSeqComprehender(), FluxT.fromIterable(ListX.of(Flux.range(0, SIZE))))
+                                              .natives(t -> t.map(i -> i + 1), t -> t.flatMap(i -> Flux.just(i + 1)),
+                                                       t -> t.filter(i -> i % 2 == 0), t -> t.stream()));
+        CASES.put("FluxTValue",
+                  ComprehenderCase.of(new FluxTValueComprehender(), FluxT.fromOptional(Optional.of(Flux.range(0, SIZE))))
+                                  .natives(t -> t.map(i -> i + 1), t -> t.flatMap(i -> Flux.just(i + 1)),
+                                           t -> t.filter(i -> i % 2 == 0), t -> t.stream()));
+    }
+
+    @Param({ "Flux", "Mono", "FluxTSeq", "FluxTValue" })
+    public String type;
+
+    @Override
+    protected ComprehenderCase<?> comprehenderCase() {
+        return CASES.get(type);
+    }
+
+    private static Object block(Object publisher) {
+        if (publisher instanceof Mono)
+            return ((Mono) publisher).block();
+        return ((Flux) publisher).collectList()
+                                 .block();
+    }
+}
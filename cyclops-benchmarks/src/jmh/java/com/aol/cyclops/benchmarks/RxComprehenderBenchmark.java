@@ -0,0 +1,58 @@
+package com.aol.cyclops.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.StreamSupport;
+
+import org.openjdk.jmh.annotations.Param;
+
+import com.aol.cyclops.data.collections.extensions.standard.ListX;
+import com.aol.cyclops.rx.comprehenders.ObservableComprehender;
+import com.aol.cyclops.rx.comprehenders.ObservableTSeqComprehender;
+import com.aol.cyclops.rx.comprehenders.ObservableTValueComprehender;
+import com.aol.cyclops.rx.transformer.ObservableT;
+
+import rx.Observable;
+
+/**
+ * Comprehenders registered by cyclops-rx
+ *
+ * The native benchmarks for the transformer types call the ObservableT methods directly, measuring the cost of going
+ * via AnyM on top of the transformer itself.
+ */
+public class RxComprehenderBenchmark extends ComprehenderBenchmark {
+
+    static final Map<String, ComprehenderCase<?>> CASES = new HashMap<>();
+
+    static {
+        CASES.put("Observable", ComprehenderCase.of(new ObservableComprehender(), Observable.range(0, SIZE))
+                                                .natives(o -> o.map(i -> i + 1), o -> o.flatMap(i -> Observable.just(i + 1)),
+                                                         o -> o.filter(i -> i % 2 == 0),
+                                                         o -> StreamSupport.stream(o.toBlocking()
+                                                                                    .toIterable()
+                                                                                    .spliterator(),
+                                                                                   false))
+                                                .materialize(o -> ((Observable) o).toList()
+                                                                                  .toBlocking()
+                                                                                  .single()));
+        CASES.put("ObservableTSeq",
+                  ComprehenderCase.of(new ObservableTSeqComprehender(),
+                                      ObservableT.fromIterable(ListX.of(Observable.range(0, SIZE))))
+                                  .natives(t -> t.map(i -> i + 1), t -> t.flatMap(i -> Observable.just(i + 1)),
+                                           t -> t.filter(i -> i % 2 == 0), t -> t.stream()));
+        CASES.put("ObservableTValue",
+                  ComprehenderCase.of(new ObservableTValueComprehender(),
+                                      ObservableT.fromOptional(Optional.of(Observable.range(0, SIZE))))
+                                  .natives(t -> t.map(i -> i + 1), t -> t.flatMap(i -> Observable.just(i + 1)),
+                                           t -> t.filter(i -> i % 2 == 0), t -> t.stream()));
+    }
+
+    @Param({ "Observable", "ObservableTSeq", "ObservableTValue" })
+    public String type;
+
+    @Override
+    protected ComprehenderCase<?> comprehenderCase() {
+        return CASES.get(type);
+    }
+}
@@ -24,7 +24,10 @@ public class LeftProjectionComprehender implements ValueComprehender<LeftProject
 
     @Override
     public Object flatMap(LeftProjection t, Function fn) {
-        return t.bind(x -> fn.apply(x));
+        return t.bind(x -> {
+            Object result = fn.apply(x);
+            return result instanceof LeftProjection ? ((LeftProjection) result).either() : result;
+        });
     }
 
     @Override
@@ -23,7 +23,10 @@ public class RightProjectionComprehender implements ValueComprehender<RightProje
 
     @Override
     public Object flatMap(RightProjection t, Function fn) {
-        return t.bind(x -> fn.apply(x));
+        return t.bind(x -> {
+            Object result = fn.apply(x);
+            return result instanceof RightProjection ? ((RightProjection) result).either() : result;
+        });
     }
 
     @Override
@@ -136,6 +136,17 @@ public class AnyFunctionalJavaMTest {
                    equalTo(Arrays.asList("HELLO WORLD")));
     }
 
+    @Test
+    public void rightProjectionFlatMapRightProjectionTest() {
+        assertThat(FJ.right(Either.<String, String> right("hello world")
+                                  .right())
+                     .flatMap(a -> FJ.right(Either.<String, String> right(a.toUpperCase())
+                                                  .right()))
+                     .toSequence()
+                     .toList(),
+                   equalTo(Arrays.asList("HELLO WORLD")));
+    }
+
     @Test
     public void leftProjectionTest() {
         assertThat(FJ.right(Either.<String, String> left("hello world")
@@ -167,6 +178,17 @@ public class AnyFunctionalJavaMTest {
                    equalTo(Arrays.asList("HELLO WORLD")));
     }
 
+    @Test
+    public void leftProjectionFlatMapLeftProjectionTest() {
+        assertThat(FJ.left(Either.<String, String> left("hello world")
+                                 .left())
+                     .flatMap(a -> FJ.left(Either.<String, String> left(a.toUpperCase())
+                                                 .left()))
+                     .toSequence()
+                     .toList(),
+                   equalTo(Arrays.asList("HELLO WORLD")));
+    }
+
     @Test
     public void optionTest() {
         assertThat(FJ.option(Option.some("hello world"))
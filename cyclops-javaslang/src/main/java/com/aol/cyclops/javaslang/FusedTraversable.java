@@ -0,0 +1,129 @@
+package com.aol.cyclops.javaslang;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import javaslang.collection.Array;
+import javaslang.collection.HashSet;
+import javaslang.collection.List;
+import javaslang.collection.Queue;
+import javaslang.collection.Traversable;
+import javaslang.collection.Vector;
+
+/**
+ * A javaslang Traversable with a pipeline of pending map / filter / flatMap stages
+ *
+ * Each stage is recorded rather than applied, so no intermediate collections are built. Iterating a FusedTraversable
+ * runs every stage in a single pass over the source, and {@link #materialize()} builds the target collection once.
+ *
+ * The target collection has the type of the source for javaslang Lists, Arrays, Vectors, Queues, HashSets (duplicate
+ * results are removed) and Streams (materialised lazily, so infinite Streams are supported). Other sources (e.g. sorted
+ * or linked sets, whose ordering can not be kept for arbitrary result types, and CharSeqs) materialise to a Vector.
+ *
+ * <pre>
+ * {@code
+ *  List<String> names = Javaslang.fused(people)
+ *                                .filter(Person::isActive)
+ *                                .map(Person::getName)
+ *                                .<FusedTraversable<String>> unwrap()
+ *                                .materialize();
+ * }
+ * </pre>
+ *
+ * @param <T> Type of the elements produced by the pipeline
+ */
+public final class FusedTraversable<T> implements Iterable<T> {
+
+    private final Traversable<?> source;
+    private final Function<Stream, Stream> stages;
+    private final Function<Stream, Traversable> target;
+
+    private FusedTraversable(Traversable<?> source, Function<Stream, Stream> stages,
+            Function<Stream, Traversable> target) {
+        this.source = source;
+        this.stages = stages;
+        this.target = target;
+    }
+
+    /**
+     * @param source Traversable to record stages against
+     * @return FusedTraversable with no pending stages
+     */
+    public static <T> FusedTraversable<T> of(Traversable<T> source) {
+        return new FusedTraversable<>(
+                                      source, Function.identity(), target(source));
+    }
+
+    private static Function<Stream, Traversable> target(Traversable<?> source) {
+        if (source instanceof javaslang.collection.Stream)
+            return elements -> javaslang.collection.Stream.ofAll(elements::iterator);
+        if (source instanceof List)
+            return elements -> List.of(elements.toArray());
+        if (source instanceof Array)
+            return elements -> Array.of(elements.toArray());
+        if (source instanceof Queue)
+            return elements -> Queue.of(elements.toArray());
+        if (source instanceof HashSet)
+            return elements -> HashSet.of(elements.toArray());
+        return elements -> Vector.of(elements.toArray());
+    }
+
+    public <R> FusedTraversable<R> map(Function<? super T, ? extends R> fn) {
+        return new FusedTraversable<>(
+                                      source, stages.andThen(s -> s.map(fn)), target);
+    }
+
+    public FusedTraversable<T> filter(Predicate<? super T> p) {
+        return new FusedTraversable<>(
+                                      source, stages.andThen(s -> s.filter(p)), target);
+    }
+
+    public <R> FusedTraversable<R> flatMap(Function<? super T, ? extends Iterable<? extends R>> fn) {
+        return new FusedTraversable<>(
+                                      source, stages.andThen(s -> s.flatMap(next -> stream(fn.apply((T) next)))),
+                                      target);
+    }
+
+    /**
+     * @return Sequential Stream that applies every pending stage to the source in a single pass
+     */
+    public Stream<T> stream() {
+        return stages.apply(stream(source));
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return stream().iterator();
+    }
+
+    /**
+     * Apply every pending stage and build the target collection, copied in bulk from a single array. Stream sources
+     * produce a lazy javaslang Stream that applies the stages as it is traversed.
+     *
+     * @return javaslang collection containing the result of the pipeline
+     */
+    public <C extends Traversable<T>> C materialize() {
+        return (C) target.apply(stream());
+    }
+
+    private static Stream stream(Iterable<?> iterable) {
+        if (iterable instanceof FusedTraversable)
+            return ((FusedTraversable) iterable).stream();
+        if (iterable instanceof javaslang.collection.Stream)
+            return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterable.iterator(), Spliterator.ORDERED),
+                                        false);
+        if (iterable instanceof Traversable)
+            return ((Traversable) iterable).toJavaStream();
+        return StreamSupport.stream(iterable.spliterator(), false);
+    }
+
+    @Override
+    public String toString() {
+        return "FusedTraversable[" + source + "]";
+    }
+}
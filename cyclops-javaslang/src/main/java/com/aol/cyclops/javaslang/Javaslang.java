@@ -1,6 +1,8 @@
 package com.aol.cyclops.javaslang;
 
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -12,7 +14,14 @@ import com.aol.cyclops.util.function.QuadFunction;
 import com.aol.cyclops.util.function.TriFunction;
 
 import javaslang.Value;
+import javaslang.collection.Array;
+import javaslang.collection.HashSet;
+import javaslang.collection.IndexedSeq;
 import javaslang.collection.Traversable;
+import javaslang.collection.TreeSet;
+import javaslang.collection.Vector;
+import javaslang.concurrent.Future;
+import javaslang.concurrent.Promise;
 import javaslang.control.Either;
 import javaslang.control.Either.LeftProjection;
 import javaslang.control.Either.RightProjection;
@@ -25,6 +34,49 @@ public class Javaslang {
         return AnyM.ofValue(monadM);
     }
 
+    /**
+     * Wrap a Future in an AnyMValue whose continuations (map, flatMap, filter and For comprehension steps) run on the
+     * supplied ExecutorService rather than on the ExecutorService the Future was created with.
+     *
+     * <pre>
+     * {@code
+     *  Javaslang.future(ioPool, Future.of(() -> load(id)))
+     *           .map(this::parse);  // parse runs on ioPool
+     * }
+     * </pre>
+     *
+     * @param executor ExecutorService to run continuations on
+     * @param future Future to wrap
+     * @return AnyMValue backed by a Future bound to executor
+     */
+    public static <T> AnyMValue<T> future(ExecutorService executor, Future<T> future) {
+        return AnyM.ofValue(onExecutor(executor, future));
+    }
+
+    /**
+     * Rebind a Future to the supplied ExecutorService, values other than Futures are returned unchanged.
+     *
+     * An already completed Future is rebound inline, an incomplete Future completes the rebound Future when it
+     * completes.
+     */
+    static <T> Value<T> onExecutor(ExecutorService executor, Value<T> value) {
+        if (!(value instanceof Future))
+            return value;
+        Future<T> future = (Future<T>) value;
+        if (future.executorService() == executor)
+            return future;
+        Option<Try<T>> completed = future.getValue();
+        if (completed.isDefined()) {
+            Try<T> result = completed.get();
+            if (result.isSuccess())
+                return Future.successful(executor, result.get());
+            return Future.failed(executor, result.getCause());
+        }
+        return Promise.<T> make(executor)
+                      .completeWith(future)
+                      .future();
+    }
+
     public static <T> AnyMValue<T> tryM(Try<T> tryM) {
         return AnyM.ofValue(tryM);
     }
@@ -57,6 +109,90 @@ public class Javaslang {
         return AnyM.ofSeq(traversable);
     }
 
+    /**
+     * Wrap a Traversable in an AnyMSeq that fuses successive map / filter / flatMap operations. No intermediate
+     * collections are built, terminal operations run every stage in a single pass, and the unwrapped
+     * {@link FusedTraversable} materialises the target collection once (as the type of the source collection where it
+     * can, otherwise as a Vector).
+     *
+     * @see FusedTraversable
+     * @param traversable Traversable to wrap
+     * @return AnyMSeq backed by a FusedTraversable
+     */
+    public static <T> AnyMSeq<T> fused(Traversable<T> traversable) {
+        return AnyM.ofSeq(FusedTraversable.of(traversable));
+    }
+
+    /**
+     * Positional operations over an AnyMSeq that use the underlying javaslang collection directly when it supports them
+     * cheaply (index based operations for IndexedSeqs such as Vector, Array and CharSeq, size for IndexedSeqs, HashSets
+     * and TreeSets, which know their length in constant time), and fall back to the AnyMSeq operation (which traverses
+     * from the start) otherwise, e.g. for Lists, Queues and Streams.
+     *
+     * The fast paths only apply when called through Javaslang.Indexed, the size / get / takeRight etc. operations of the
+     * AnyMSeq itself always traverse.
+     *
+     * <pre>
+     * {@code
+     *  AnyMSeq<Integer> last = Javaslang.Indexed.takeRight(Javaslang.traversable(largeVector), 10);
+     * }
+     * </pre>
+     */
+    public interface Indexed {
+
+        static <T> long size(AnyMSeq<T> seq) {
+            Object unwrapped = seq.unwrap();
+            if (unwrapped instanceof IndexedSeq || unwrapped instanceof HashSet || unwrapped instanceof TreeSet)
+                return ((Traversable<T>) unwrapped).length();
+            return seq.stream()
+                      .count();
+        }
+
+        static <T> Optional<T> get(AnyMSeq<T> seq, long index) {
+            Object unwrapped = seq.unwrap();
+            if (unwrapped instanceof IndexedSeq) {
+                IndexedSeq<T> indexed = (IndexedSeq<T>) unwrapped;
+                if (index < 0 || index >= indexed.length())
+                    return Optional.empty();
+                return Optional.ofNullable(indexed.get((int) index));
+            }
+            return seq.get(index);
+        }
+
+        static <T> AnyMSeq<T> takeRight(AnyMSeq<T> seq, int num) {
+            Object unwrapped = seq.unwrap();
+            if (unwrapped instanceof IndexedSeq)
+                return traversable(((IndexedSeq<T>) unwrapped).takeRight(num));
+            return seq.takeRight(num);
+        }
+
+        static <T> AnyMSeq<T> skipLast(AnyMSeq<T> seq, int num) {
+            Object unwrapped = seq.unwrap();
+            if (unwrapped instanceof IndexedSeq)
+                return traversable(((IndexedSeq<T>) unwrapped).dropRight(num));
+            return seq.skipLast(num);
+        }
+
+        static <T> AnyMSeq<T> reverse(AnyMSeq<T> seq) {
+            Object unwrapped = seq.unwrap();
+            if (unwrapped instanceof IndexedSeq)
+                return traversable(((IndexedSeq<T>) unwrapped).reverse());
+            return seq.reverse();
+        }
+
+        static <T> AnyMSeq<T> slice(AnyMSeq<T> seq, long from, long to) {
+            Object unwrapped = seq.unwrap();
+            if (unwrapped instanceof IndexedSeq) {
+                IndexedSeq<T> indexed = (IndexedSeq<T>) unwrapped;
+                int length = indexed.length();
+                int begin = (int) Math.max(0, Math.min(from, length));
+                int end = (int) Math.max(begin, Math.min(to, length));
+                return traversable(indexed.subSequence(begin, end));
+            }
+            return seq.slice(from, to);
+        }
+    }
+
     public interface ForTraversable {
 
         static <T1, T2, T3, R1, R2, R3, R> Traversable<R> each4(Traversable<? extends T1> value1,
@@ -150,6 +286,168 @@ public class Javaslang {
         }
     }
 
+    /**
+     * Opt-in parallel variants of ForTraversable. The outermost generator (which must be finite) is split into chunks
+     * that are evaluated as ForkJoin tasks on the supplied pool, each running the inner generators sequentially.
+     *
+     * The eachN methods concatenate results in the order of the outermost generator, the eachNUnordered methods
+     * collect results as each chunk completes. Generator, filter and yielding functions must be safe to call from
+     * multiple threads.
+     *
+     * <pre>
+     * {@code
+     *  Vector<Tuple2<Integer, Integer>> pairs = ParallelForTraversable.each2(ForkJoinPool.commonPool(),
+     *                                                                      List.range(0, 10_000),
+     *                                                                      a -> List.range(0, a), Tuple::tuple);
+     * }
+     * </pre>
+     */
+    public interface ParallelForTraversable {
+
+        static <T1, T2, T3, R1, R2, R3, R> Vector<R> each4(ForkJoinPool pool, Traversable<? extends T1> value1,
+                Function<? super T1, ? extends Traversable<R1>> value2,
+                BiFunction<? super T1, ? super R1, ? extends Traversable<R2>> value3,
+                TriFunction<? super T1, ? super R1, ? super R2, ? extends Traversable<R3>> value4,
+                QuadFunction<? super T1, ? super R1, ? super R2, ? super R3, ? extends R> yieldingFunction) {
+
+            return ParallelComprehension.ordered(pool, value1,
+                                                 (Array<T1> chunk) -> ForTraversable.each4(chunk, value2, value3,
+                                                                                           value4, yieldingFunction));
+
+        }
+
+        static <T1, T2, T3, R1, R2, R3, R> Vector<R> each4(ForkJoinPool pool, Traversable<? extends T1> value1,
+                Function<? super T1, ? extends Traversable<R1>> value2,
+                BiFunction<? super T1, ? super R1, ? extends Traversable<R2>> value3,
+                TriFunction<? super T1, ? super R1, ? super R2, ? extends Traversable<R3>> value4,
+                QuadFunction<? super T1, ? super R1, ? super R2, ? super R3, Boolean> filterFunction,
+                QuadFunction<? super T1, ? super R1, ? super R2, ? super R3, ? extends R> yieldingFunction) {
+
+            return ParallelComprehension.ordered(pool, value1,
+                                                 (Array<T1> chunk) -> ForTraversable.each4(chunk, value2, value3,
+                                                                                           value4, filterFunction,
+                                                                                           yieldingFunction));
+
+        }
+
+        static <T1, T2, R1, R2, R> Vector<R> each3(ForkJoinPool pool, Traversable<? extends T1> value1,
+                Function<? super T1, ? extends Traversable<R1>> value2,
+                BiFunction<? super T1, ? super R1, ? extends Traversable<R2>> value3,
+                TriFunction<? super T1, ? super R1, ? super R2, ? extends R> yieldingFunction) {
+
+            return ParallelComprehension.ordered(pool, value1,
+                                                 (Array<T1> chunk) -> ForTraversable.each3(chunk, value2, value3,
+                                                                                           yieldingFunction));
+
+        }
+
+        static <T1, T2, R1, R2, R> Vector<R> each3(ForkJoinPool pool, Traversable<? extends T1> value1,
+                Function<? super T1, ? extends Traversable<R1>> value2,
+                BiFunction<? super T1, ? super R1, ? extends Traversable<R2>> value3,
+                TriFunction<? super T1, ? super R1, ? super R2, Boolean> filterFunction,
+                TriFunction<? super T1, ? super R1, ? super R2, ? extends R> yieldingFunction) {
+
+            return ParallelComprehension.ordered(pool, value1,
+                                                 (Array<T1> chunk) -> ForTraversable.each3(chunk, value2, value3,
+                                                                                           filterFunction,
+                                                                                           yieldingFunction));
+
+        }
+
+        static <T, R1, R> Vector<R> each2(ForkJoinPool pool, Traversable<? extends T> value1,
+                Function<? super T, Traversable<R1>> value2,
+                BiFunction<? super T, ? super R1, ? extends R> yieldingFunction) {
+
+            return ParallelComprehension.ordered(pool, value1,
+                                                 (Array<T> chunk) -> ForTraversable.each2(chunk, value2,
+                                                                                          yieldingFunction));
+
+        }
+
+        static <T, R1, R> Vector<R> each2(ForkJoinPool pool, Traversable<? extends T> value1,
+                Function<? super T, ? extends Traversable<R1>> value2,
+                BiFunction<? super T, ? super R1, Boolean> filterFunction,
+                BiFunction<? super T, ? super R1, ? extends R> yieldingFunction) {
+
+            return ParallelComprehension.ordered(pool, value1,
+                                                 (Array<T> chunk) -> ForTraversable.each2(chunk, value2, filterFunction,
+                                                                                          yieldingFunction));
+
+        }
+
+        static <T1, T2, T3, R1, R2, R3, R> Vector<R> each4Unordered(ForkJoinPool pool, Traversable<? extends T1> value1,
+                Function<? super T1, ? extends Traversable<R1>> value2,
+                BiFunction<? super T1, ? super R1, ? extends Traversable<R2>> value3,
+                TriFunction<? super T1, ? super R1, ? super R2, ? extends Traversable<R3>> value4,
+                QuadFunction<? super T1, ? super R1, ? super R2, ? super R3, ? extends R> yieldingFunction) {
+
+            return ParallelComprehension.unordered(pool, value1,
+                                                   (Array<T1> chunk) -> ForTraversable.each4(chunk, value2, value3,
+                                                                                             value4, yieldingFunction));
+
+        }
+
+        static <T1, T2, T3, R1, R2, R3, R> Vector<R> each4Unordered(ForkJoinPool pool, Traversable<? extends T1> value1,
+                Function<? super T1, ? extends Traversable<R1>> value2,
+                BiFunction<? super T1, ? super R1, ? extends Traversable<R2>> value3,
+                TriFunction<? super T1, ? super R1, ? super R2, ? extends Traversable<R3>> value4,
+                QuadFunction<? super T1, ? super R1, ? super R2, ? super R3, Boolean> filterFunction,
+                QuadFunction<? super T1, ? super R1, ? super R2, ? super R3, ? extends R> yieldingFunction) {
+
+            return ParallelComprehension.unordered(pool, value1,
+                                                   (Array<T1> chunk) -> ForTraversable.each4(chunk, value2, value3,
+                                                                                             value4, filterFunction,
+                                                                                             yieldingFunction));
+
+        }
+
+        static <T1, T2, R1, R2, R> Vector<R> each3Unordered(ForkJoinPool pool, Traversable<? extends T1> value1,
+                Function<? super T1, ? extends Traversable<R1>> value2,
+                BiFunction<? super T1, ? super R1, ? extends Traversable<R2>> value3,
+                TriFunction<? super T1, ? super R1, ? super R2, ? extends R> yieldingFunction) {
+
+            return ParallelComprehension.unordered(pool, value1,
+                                                   (Array<T1> chunk) -> ForTraversable.each3(chunk, value2, value3,
+                                                                                             yieldingFunction));
+
+        }
+
+        static <T1, T2, R1, R2, R> Vector<R> each3Unordered(ForkJoinPool pool, Traversable<? extends T1> value1,
+                Function<? super T1, ? extends Traversable<R1>> value2,
+                BiFunction<? super T1, ? super R1, ? extends Traversable<R2>> value3,
+                TriFunction<? super T1, ? super R1, ? super R2, Boolean> filterFunction,
+                TriFunction<? super T1, ? super R1, ? super R2, ? extends R> yieldingFunction) {
+
+            return ParallelComprehension.unordered(pool, value1,
+                                                   (Array<T1> chunk) -> ForTraversable.each3(chunk, value2, value3,
+                                                                                             filterFunction,
+                                                                                             yieldingFunction));
+
+        }
+
+        static <T, R1, R> Vector<R> each2Unordered(ForkJoinPool pool, Traversable<? extends T> value1,
+                Function<? super T, Traversable<R1>> value2,
+                BiFunction<? super T, ? super R1, ? extends R> yieldingFunction) {
+
+            return ParallelComprehension.unordered(pool, value1,
+                                                   (Array<T> chunk) -> ForTraversable.each2(chunk, value2,
+                                                                                            yieldingFunction));
+
+        }
+
+        static <T, R1, R> Vector<R> each2Unordered(ForkJoinPool pool, Traversable<? extends T> value1,
+                Function<? super T, ? extends Traversable<R1>> value2,
+                BiFunction<? super T, ? super R1, Boolean> filterFunction,
+                BiFunction<? super T, ? super R1, ? extends R> yieldingFunction) {
+
+            return ParallelComprehension.unordered(pool, value1,
+                                                   (Array<T> chunk) -> ForTraversable.each2(chunk, value2,
+                                                                                            filterFunction,
+                                                                                            yieldingFunction));
+
+        }
+    }
+
     public interface ForValue {
 
         static <T1, T2, T3, R1, R2, R3, R> Value<R> each4(Value<? extends T1> value1,
@@ -239,5 +537,101 @@ public class Javaslang {
                        .unwrap();
 
         }
+
+        /*
+         * The overloads below accept an ExecutorService, every Future produced by a step of the comprehension is
+         * rebound to it, so that continuations and the yielding function run on that pool. Non-Future Values are
+         * unaffected.
+         */
+
+        static <T1, T2, T3, R1, R2, R3, R> Value<R> each4(ExecutorService executor, Value<? extends T1> value1,
+                Function<? super T1, ? extends Value<R1>> value2,
+                BiFunction<? super T1, ? super R1, ? extends Value<R2>> value3,
+                TriFunction<? super T1, ? super R1, ? super R2, ? extends Value<R3>> value4,
+                QuadFunction<? super T1, ? super R1, ? super R2, ? super R3, ? extends R> yieldingFunction) {
+
+            return AnyM.ofValue(For.anyM(value(onExecutor(executor, value1)))
+                                   .anyM(a -> value(onExecutor(executor, value2.apply(a))))
+                                   .anyM(a -> b -> value(onExecutor(executor, value3.apply(a, b))))
+                                   .anyM(a -> b -> c -> value(onExecutor(executor, value4.apply(a, b, c))))
+                                   .yield4(yieldingFunction)
+                                   .unwrap())
+                       .unwrap();
+
+        }
+
+        static <T1, T2, T3, R1, R2, R3, R> Value<R> each4(ExecutorService executor, Value<? extends T1> value1,
+                Function<? super T1, ? extends Value<R1>> value2,
+                BiFunction<? super T1, ? super R1, ? extends Value<R2>> value3,
+                TriFunction<? super T1, ? super R1, ? super R2, ? extends Value<R3>> value4,
+                QuadFunction<? super T1, ? super R1, ? super R2, ? super R3, Boolean> filterFunction,
+                QuadFunction<? super T1, ? super R1, ? super R2, ? super R3, ? extends R> yieldingFunction) {
+
+            return AnyM.ofValue(For.anyM(value(onExecutor(executor, value1)))
+                                   .anyM(a -> value(onExecutor(executor, value2.apply(a))))
+                                   .anyM(a -> b -> value(onExecutor(executor, value3.apply(a, b))))
+                                   .anyM(a -> b -> c -> value(onExecutor(executor, value4.apply(a, b, c))))
+                                   .filter(a -> b -> c -> d -> filterFunction.apply(a, b, c, d))
+                                   .yield4(yieldingFunction)
+                                   .unwrap())
+                       .unwrap();
+
+        }
+
+        static <T1, T2, R1, R2, R> Value<R> each3(ExecutorService executor, Value<? extends T1> value1,
+                Function<? super T1, ? extends Value<R1>> value2,
+                BiFunction<? super T1, ? super R1, ? extends Value<R2>> value3,
+                TriFunction<? super T1, ? super R1, ? super R2, ? extends R> yieldingFunction) {
+
+            return AnyM.ofValue(For.anyM(value(onExecutor(executor, value1)))
+                                   .anyM(a -> value(onExecutor(executor, value2.apply(a))))
+                                   .anyM(a -> b -> value(onExecutor(executor, value3.apply(a, b))))
+                                   .yield3(yieldingFunction)
+                                   .unwrap())
+                       .unwrap();
+
+        }
+
+        static <T1, T2, R1, R2, R> Value<R> each3(ExecutorService executor, Value<? extends T1> value1,
+                Function<? super T1, ? extends Value<R1>> value2,
+                BiFunction<? super T1, ? super R1, ? extends Value<R2>> value3,
+                TriFunction<? super T1, ? super R1, ? super R2, Boolean> filterFunction,
+                TriFunction<? super T1, ? super R1, ? super R2, ? extends R> yieldingFunction) {
+
+            return AnyM.ofValue(For.anyM(value(onExecutor(executor, value1)))
+                                   .anyM(a -> value(onExecutor(executor, value2.apply(a))))
+                                   .anyM(a -> b -> value(onExecutor(executor, value3.apply(a, b))))
+                                   .filter(a -> b -> c -> filterFunction.apply(a, b, c))
+                                   .yield3(yieldingFunction)
+                                   .unwrap())
+                       .unwrap();
+
+        }
+
+        static <T, R1, R> Value<R> each2(ExecutorService executor, Value<? extends T> value1,
+                Function<? super T, Value<R1>> value2,
+                BiFunction<? super T, ? super R1, ? extends R> yieldingFunction) {
+
+            return AnyM.ofValue(For.anyM(value(onExecutor(executor, value1)))
+                                   .anyM(a -> value(onExecutor(executor, value2.apply(a))))
+                                   .yield2(yieldingFunction)
+                                   .unwrap())
+                       .unwrap();
+
+        }
+
+        static <T, R1, R> Value<R> each2(ExecutorService executor, Value<? extends T> value1,
+                Function<? super T, ? extends Value<R1>> value2,
+                BiFunction<? super T, ? super R1, Boolean> filterFunction,
+                BiFunction<? super T, ? super R1, ? extends R> yieldingFunction) {
+
+            return AnyM.ofValue(For.anyM(value(onExecutor(executor, value1)))
+                                   .anyM(a -> value(onExecutor(executor, value2.apply(a))))
+                                   .filter(a -> b -> filterFunction.apply(a, b))
+                                   .yield2(yieldingFunction)
+                                   .unwrap())
+                       .unwrap();
+
+        }
     }
 }
@@ -0,0 +1,121 @@
+package com.aol.cyclops.javaslang;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+
+import javaslang.collection.Array;
+import javaslang.collection.Traversable;
+import javaslang.collection.Vector;
+
+/**
+ * Runs a comprehension over chunks of its outermost generator as ForkJoin tasks
+ *
+ * The outermost (finite) generator is copied once into an Array and recursively split, each leaf runs the remaining
+ * (sequential) comprehension over its chunk. Ordered results are concatenated in the order of the outermost generator,
+ * unordered results are collected as each leaf completes.
+ */
+final class ParallelComprehension {
+
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private ParallelComprehension() {
+    }
+
+    static <T, R> Vector<R> ordered(ForkJoinPool pool, Traversable<? extends T> generator,
+            Function<Array<T>, Traversable<R>> comprehension) {
+        Array<T> elements = Array.ofAll(generator);
+        return Vector.ofAll(pool.invoke(new OrderedTask<>(
+                                                          elements, 0, elements.length(),
+                                                          leafSize(pool, elements), comprehension)));
+    }
+
+    static <T, R> Vector<R> unordered(ForkJoinPool pool, Traversable<? extends T> generator,
+            Function<Array<T>, Traversable<R>> comprehension) {
+        Array<T> elements = Array.ofAll(generator);
+        ConcurrentLinkedQueue<R> results = new ConcurrentLinkedQueue<>();
+        pool.invoke(new UnorderedTask<>(
+                                        elements, 0, elements.length(), leafSize(pool, elements), comprehension,
+                                        results));
+        return Vector.ofAll(results);
+    }
+
+    private static int leafSize(ForkJoinPool pool, Array<?> elements) {
+        return Math.max(1, elements.length() / (pool.getParallelism() * CHUNKS_PER_THREAD));
+    }
+
+    private static final class OrderedTask<T, R> extends RecursiveTask<ArrayList<R>> {
+        private static final long serialVersionUID = 1L;
+        private final Array<T> elements;
+        private final int from;
+        private final int to;
+        private final int leafSize;
+        private final Function<Array<T>, Traversable<R>> comprehension;
+
+        OrderedTask(Array<T> elements, int from, int to, int leafSize,
+                Function<Array<T>, Traversable<R>> comprehension) {
+            this.elements = elements;
+            this.from = from;
+            this.to = to;
+            this.leafSize = leafSize;
+            this.comprehension = comprehension;
+        }
+
+        @Override
+        protected ArrayList<R> compute() {
+            if (to - from <= leafSize) {
+                ArrayList<R> result = new ArrayList<>();
+                comprehension.apply(elements.subSequence(from, to))
+                             .forEach(result::add);
+                return result;
+            }
+            int mid = (from + to) >>> 1;
+            OrderedTask<T, R> left = new OrderedTask<>(
+                                                       elements, from, mid, leafSize, comprehension);
+            left.fork();
+            ArrayList<R> right = new OrderedTask<>(
+                                                   elements, mid, to, leafSize, comprehension).compute();
+            ArrayList<R> result = left.join();
+            result.addAll(right);
+            return result;
+        }
+    }
+
+    private static final class UnorderedTask<T, R> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final Array<T> elements;
+        private final int from;
+        private final int to;
+        private final int leafSize;
+        private final Function<Array<T>, Traversable<R>> comprehension;
+        private final Collection<R> results;
+
+        UnorderedTask(Array<T> elements, int from, int to, int leafSize,
+                Function<Array<T>, Traversable<R>> comprehension, Collection<R> results) {
+            this.elements = elements;
+            this.from = from;
+            this.to = to;
+            this.leafSize = leafSize;
+            this.comprehension = comprehension;
+            this.results = results;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= leafSize) {
+                results.addAll(comprehension.apply(elements.subSequence(from, to))
+                                            .toJavaList());
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new UnorderedTask<>(
+                                          elements, from, mid, leafSize, comprehension, results),
+                      new UnorderedTask<>(
+                                          elements, mid, to, leafSize, comprehension, results));
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.aol.cyclops.javaslang.caching;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Memoiser for functions that return a future, backing the Memoize#memoizeAsync methods
+ *
+ * Each key maps to a single shared future, so concurrent callers for a key that is still loading wait on the same
+ * in-flight computation instead of starting their own. A load that completes exceptionally is removed before its
+ * future is completed, so callers that observe the failure and retry trigger a fresh load. Expiry is measured from the
+ * time a load completes, and an optional refresh-ahead interval reloads completed values in the background while
+ * continuing to serve the current value. A failed refresh keeps the current value and is not retried until a further
+ * refresh interval has passed.
+ *
+ * Each call receives its own view of the shared future (for CompletableFutures a dependent copy), so callers that
+ * complete, cancel or obtrude a value on the future they receive do not affect the cached result.
+ *
+ * @param <T> Key type
+ * @param <R> Result type
+ * @param <F> Future type returned by the memoised function
+ */
+final class AsyncMemoizer<T, R, F> implements Function<T, F> {
+
+    private static final Object NULL = new Object();
+    private static final long LOADING = Long.MIN_VALUE;
+    private static final long NO_FAILURE = Long.MIN_VALUE;
+
+    private final Function<? super T, ? extends F> fn;
+    private final Function<? super F, CompletableFuture<R>> toCompletable;
+    private final Function<CompletableFuture<R>, F> fromCompletable;
+    private final CachePolicy policy;
+    private final ConcurrentHashMap<Object, Entry<R, F>> entries = new ConcurrentHashMap<>();
+
+    AsyncMemoizer(Function<? super T, ? extends F> fn, Function<? super F, CompletableFuture<R>> toCompletable,
+            Function<CompletableFuture<R>, F> fromCompletable, CachePolicy policy) {
+        if (policy.isBounded() || policy.valueStrength != CachePolicy.ValueStrength.STRONG)
+            throw new IllegalArgumentException(
+                                               "memoizeAsync supports expiry and refresh policies only " + policy);
+        this.fn = fn;
+        this.toCompletable = toCompletable;
+        this.fromCompletable = fromCompletable;
+        this.policy = policy;
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.util.function.Function#apply(java.lang.Object)
+     */
+    @Override
+    public F apply(T key) {
+        Object masked = key == null ? NULL : key;
+        for (;;) {
+            long now = policy.ticker.getAsLong();
+            Entry<R, F> entry = entries.get(masked);
+            if (entry != null) {
+                if (!entry.isExpired(policy, now)) {
+                    entry.accessTime = now;
+                    if (entry.needsRefresh(policy, now))
+                        refresh(key, masked, entry);
+                    return fromCompletable.apply(entry.result);
+                }
+                entries.remove(masked, entry);
+            }
+            CompletableFuture<R> promise = new CompletableFuture<>();
+            Entry<R, F> created = new Entry<>(
+                                              promise, LOADING);
+            if (entries.putIfAbsent(masked, created) != null)
+                continue;
+            load(key).whenComplete((result, error) -> {
+                if (error != null) {
+                    entries.remove(masked, created);
+                    promise.completeExceptionally(error);
+                } else {
+                    created.loaded(policy.ticker.getAsLong());
+                    promise.complete(result);
+                }
+            });
+            return fromCompletable.apply(promise);
+        }
+    }
+
+    private void refresh(T key, Object masked, Entry<R, F> current) {
+        if (!current.startRefresh())
+            return;
+        load(key).whenComplete((result, error) -> {
+            if (error != null) {
+                current.refreshFailed(policy.ticker.getAsLong());
+                return;
+            }
+            entries.replace(masked, current, new Entry<>(
+                                                         CompletableFuture.completedFuture(result),
+                                                         policy.ticker.getAsLong()));
+        });
+    }
+
+    private CompletableFuture<R> load(T key) {
+        try {
+            return toCompletable.apply(fn.apply(key));
+        } catch (Throwable t) {
+            CompletableFuture<R> failed = new CompletableFuture<>();
+            failed.completeExceptionally(t);
+            return failed;
+        }
+    }
+
+    private static final class Entry<R, F> {
+        private final CompletableFuture<R> result;
+        private volatile long writeTime;
+        private volatile long accessTime;
+        private volatile long refreshFailureTime = NO_FAILURE;
+        private volatile boolean refreshing;
+
+        Entry(CompletableFuture<R> result, long writeTime) {
+            this.result = result;
+            this.writeTime = writeTime;
+            this.accessTime = writeTime;
+        }
+
+        void loaded(long now) {
+            accessTime = now;
+            writeTime = now;
+        }
+
+        boolean isExpired(CachePolicy policy, long now) {
+            long written = writeTime;
+            if (written == LOADING)
+                return false;
+            if (policy.expireAfterWriteNanos != CachePolicy.UNSET && now - written >= policy.expireAfterWriteNanos)
+                return true;
+            return policy.expireAfterAccessNanos != CachePolicy.UNSET
+                    && now - accessTime >= policy.expireAfterAccessNanos;
+        }
+
+        boolean needsRefresh(CachePolicy policy, long now) {
+            long written = writeTime;
+            if (!policy.refreshes() || written == LOADING || refreshing || result.isCompletedExceptionally()
+                    || now - written < policy.refreshAfterWriteNanos)
+                return false;
+            long failed = refreshFailureTime;
+            return failed == NO_FAILURE || now - failed >= policy.refreshAfterWriteNanos;
+        }
+
+        void refreshFailed(long now) {
+            refreshFailureTime = now;
+            refreshing = false;
+        }
+
+        synchronized boolean startRefresh() {
+            if (refreshing)
+                return false;
+            refreshing = true;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.aol.cyclops.javaslang.caching;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Immutable description of how a {@link MemoizeCache} bounds its contents
+ *
+ * <pre>
+ * {@code
+ *  MemoizeCache<Integer> cache = Memoize.cache(CachePolicy.maximumSize(10_000)
+ *                                                         .expireAfterAccess(5, TimeUnit.MINUTES));
+ *  Function1<Integer,Integer> fn = Memoize.memoizeFunction(this::load, cache);
+ *
+ *  cache.stats().hitRate();
+ * }
+ * </pre>
+ */
+public final class CachePolicy {
+
+    /**
+     * Strength of the references used to hold cached values
+     */
+    public enum ValueStrength {
+        STRONG, WEAK, SOFT
+    }
+
+    static final long UNSET = -1;
+
+    final long maximumSize;
+    final long expireAfterWriteNanos;
+    final long expireAfterAccessNanos;
+    final long refreshAfterWriteNanos;
+    final ValueStrength valueStrength;
+    final LongSupplier ticker;
+
+    private CachePolicy(long maximumSize, long expireAfterWriteNanos, long expireAfterAccessNanos,
+            long refreshAfterWriteNanos, ValueStrength valueStrength, LongSupplier ticker) {
+        this.maximumSize = maximumSize;
+        this.expireAfterWriteNanos = expireAfterWriteNanos;
+        this.expireAfterAccessNanos = expireAfterAccessNanos;
+        this.refreshAfterWriteNanos = refreshAfterWriteNanos;
+        this.valueStrength = valueStrength;
+        this.ticker = ticker;
+    }
+
+    /**
+     * @return Policy that never evicts, with strongly held values
+     */
+    public static CachePolicy unbounded() {
+        return new CachePolicy(
+                               UNSET, UNSET, UNSET, UNSET, ValueStrength.STRONG, System::nanoTime);
+    }
+
+    /**
+     * @param maximumSize Maximum number of entries
+     * @return Policy that evicts the least recently used entries once maximumSize is exceeded
+     */
+    public static CachePolicy maximumSize(long maximumSize) {
+        return unbounded().withMaximumSize(maximumSize);
+    }
+
+    /**
+     * @param maximumSize Maximum number of entries, the least recently used entries are evicted once it is exceeded
+     * @return New policy with the supplied maximum size
+     */
+    public CachePolicy withMaximumSize(long maximumSize) {
+        if (maximumSize < 0)
+            throw new IllegalArgumentException(
+                                               "maximumSize must not be negative " + maximumSize);
+        return new CachePolicy(
+                               maximumSize, expireAfterWriteNanos, expireAfterAccessNanos, refreshAfterWriteNanos, valueStrength,
+                               ticker);
+    }
+
+    /**
+     * @param duration Time after an entry is written that it expires
+     * @param unit TimeUnit of duration
+     * @return New policy with the supplied expiry
+     */
+    public CachePolicy expireAfterWrite(long duration, TimeUnit unit) {
+        return new CachePolicy(
+                               maximumSize, checkDuration(duration, unit), expireAfterAccessNanos, refreshAfterWriteNanos,
+                               valueStrength, ticker);
+    }
+
+    /**
+     * @param duration Time after an entry was last read or written that it expires
+     * @param unit TimeUnit of duration
+     * @return New policy with the supplied expiry
+     */
+    public CachePolicy expireAfterAccess(long duration, TimeUnit unit) {
+        return new CachePolicy(
+                               maximumSize, expireAfterWriteNanos, checkDuration(duration, unit), refreshAfterWriteNanos,
+                               valueStrength, ticker);
+    }
+
+    /**
+     * Refresh ahead, only applied by the memoizeAsync methods. Once a completed value is older than the supplied
+     * duration the next call starts a reload in the background and is served the current value, which is replaced when
+     * the reload succeeds. Set this shorter than any expireAfterWrite duration to avoid callers waiting on a reload.
+     *
+     * @param duration Time after a value is written that it is eligible for a background refresh
+     * @param unit TimeUnit of duration
+     * @return New policy with the supplied refresh interval
+     */
+    public CachePolicy refreshAfterWrite(long duration, TimeUnit unit) {
+        return new CachePolicy(
+                               maximumSize, expireAfterWriteNanos, expireAfterAccessNanos, checkDuration(duration, unit),
+                               valueStrength, ticker);
+    }
+
+    /**
+     * @return New policy that holds values via WeakReferences, values are removed once no longer otherwise reachable
+     */
+    public CachePolicy weakValues() {
+        return new CachePolicy(
+                               maximumSize, expireAfterWriteNanos, expireAfterAccessNanos, refreshAfterWriteNanos,
+                               ValueStrength.WEAK, ticker);
+    }
+
+    /**
+     * @return New policy that holds values via SoftReferences, values are removed in response to memory pressure
+     */
+    public CachePolicy softValues() {
+        return new CachePolicy(
+                               maximumSize, expireAfterWriteNanos, expireAfterAccessNanos, refreshAfterWriteNanos,
+                               ValueStrength.SOFT, ticker);
+    }
+
+    /**
+     * @param ticker Nanosecond time source used for expiry and load time (defaults to System::nanoTime)
+     * @return New policy with the supplied time source
+     */
+    public CachePolicy ticker(LongSupplier ticker) {
+        return new CachePolicy(
+                               maximumSize, expireAfterWriteNanos, expireAfterAccessNanos, refreshAfterWriteNanos, valueStrength,
+                               ticker);
+    }
+
+    boolean isBounded() {
+        return maximumSize != UNSET;
+    }
+
+    boolean refreshes() {
+        return refreshAfterWriteNanos != UNSET;
+    }
+
+    boolean expires() {
+        return expireAfterWriteNanos != UNSET || expireAfterAccessNanos != UNSET;
+    }
+
+    private static long checkDuration(long duration, TimeUnit unit) {
+        if (duration < 0)
+            throw new IllegalArgumentException(
+                                               "duration must not be negative " + duration);
+        return unit.toNanos(duration);
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return "CachePolicy[maximumSize=" + maximumSize + ", expireAfterWriteNanos=" + expireAfterWriteNanos
+                + ", expireAfterAccessNanos=" + expireAfterAccessNanos + ", refreshAfterWriteNanos=" + refreshAfterWriteNanos
+                + ", valueStrength=" + valueStrength + "]";
+    }
+}
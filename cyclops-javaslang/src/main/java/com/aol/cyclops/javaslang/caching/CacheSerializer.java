@@ -0,0 +1,60 @@
+package com.aol.cyclops.javaslang.caching;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import com.aol.cyclops.util.ExceptionSoftener;
+
+/**
+ * Converts cached keys or values to and from bytes, for Cacheables that store entries outside of the heap
+ *
+ * @param <T> Type of the keys or values converted
+ */
+public interface CacheSerializer<T> {
+
+    /**
+     * @param value Key or value to convert
+     * @return Bytes representing value
+     */
+    byte[] serialize(T value);
+
+    /**
+     * @param bytes Bytes produced by {@link #serialize(Object)}
+     * @return Key or value represented by bytes
+     */
+    T deserialize(byte[] bytes);
+
+    /**
+     * @return Serializer that uses Java serialization, keys and values must be Serializable
+     */
+    static <T> CacheSerializer<T> javaSerialization() {
+        return new CacheSerializer<T>() {
+
+            @Override
+            public byte[] serialize(T value) {
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                try (ObjectOutputStream out = new ObjectOutputStream(
+                                                                     bytes)) {
+                    out.writeObject(value);
+                } catch (IOException e) {
+                    throw ExceptionSoftener.throwSoftenedException(e);
+                }
+                return bytes.toByteArray();
+            }
+
+            @Override
+            public T deserialize(byte[] bytes) {
+                try (ObjectInputStream in = new ObjectInputStream(
+                                                                  new ByteArrayInputStream(
+                                                                                           bytes))) {
+                    return (T) in.readObject();
+                } catch (IOException | ClassNotFoundException e) {
+                    throw ExceptionSoftener.throwSoftenedException(e);
+                }
+            }
+        };
+    }
+}
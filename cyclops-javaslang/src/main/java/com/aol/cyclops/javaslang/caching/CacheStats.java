@@ -0,0 +1,48 @@
+package com.aol.cyclops.javaslang.caching;
+
+import lombok.Value;
+
+/**
+ * Immutable snapshot of the counters kept by a {@link MemoizeCache}
+ */
+@Value
+public class CacheStats {
+    /**
+     * Number of lookups that returned a cached value
+     */
+    long hitCount;
+    /**
+     * Number of lookups that had to compute a value
+     */
+    long missCount;
+    /**
+     * Number of entries removed because of the size bound, expiry or garbage collection of their value
+     */
+    long evictionCount;
+    /**
+     * Total time spent computing values, in nanoseconds
+     */
+    long totalLoadTime;
+
+    /**
+     * @return Total number of lookups
+     */
+    public long requestCount() {
+        return hitCount + missCount;
+    }
+
+    /**
+     * @return Ratio of hits to lookups, 1.0 if there have been no lookups
+     */
+    public double hitRate() {
+        long requests = requestCount();
+        return requests == 0 ? 1.0 : (double) hitCount / requests;
+    }
+
+    /**
+     * @return Average time spent computing a value, in nanoseconds
+     */
+    public double averageLoadPenalty() {
+        return missCount == 0 ? 0.0 : (double) totalLoadTime / missCount;
+    }
+}
@@ -0,0 +1,65 @@
+package com.aol.cyclops.javaslang.caching;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * One level of the nested tables backing the unbounded Memoize methods
+ *
+ * Multi-argument functions are memoised via a chain of tables, one per argument, so that no composite key needs to be
+ * created. A cache hit performs one ConcurrentHashMap#get per argument and allocates nothing, allocation only occurs
+ * when a new value (or a new table for an unseen argument) is stored. Null arguments and null results are stored as a
+ * sentinel.
+ */
+final class KeyTable {
+
+    private static final Object NULL = new Object();
+    private static final Function<Object, KeyTable> NEW_TABLE = k -> new KeyTable();
+
+    private final ConcurrentHashMap<Object, Object> entries = new ConcurrentHashMap<>();
+
+    /**
+     * @param key Argument value
+     * @return Table for the next argument, created if this key has not been seen before
+     */
+    KeyTable next(Object key) {
+        Object masked = mask(key);
+        Object table = entries.get(masked);
+        return (KeyTable) (table != null ? table : entries.computeIfAbsent(masked, NEW_TABLE));
+    }
+
+    /**
+     * @param key Final argument value
+     * @return Stored (masked) result, or null if none has been stored
+     */
+    Object get(Object key) {
+        return entries.get(mask(key));
+    }
+
+    /**
+     * The result is computed outside of any map lock and stored with putIfAbsent, so the loader may call back into the
+     * same memoised function (the first result stored for a key wins if it is computed concurrently).
+     *
+     * @param key Final argument value
+     * @param loader Computes the result if one has not already been stored
+     * @return Stored result
+     */
+    <R> R load(Object key, Supplier<? extends R> loader) {
+        Object masked = mask(key);
+        Object stored = entries.get(masked);
+        if (stored != null)
+            return unmask(stored);
+        Object computed = mask(loader.get());
+        stored = entries.putIfAbsent(masked, computed);
+        return unmask(stored != null ? stored : computed);
+    }
+
+    static <R> R unmask(Object value) {
+        return value == NULL ? null : (R) value;
+    }
+
+    private static Object mask(Object value) {
+        return value == null ? NULL : value;
+    }
+}
@@ -0,0 +1,104 @@
+package com.aol.cyclops.javaslang.caching;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.LongFunction;
+
+/**
+ * Open addressing, long keyed table backing the primitive Memoize methods
+ *
+ * Keys are stored unboxed in a long[] and lookups use linear probing, so a cache hit neither boxes the key nor
+ * allocates. Reads are lock free: a slot's key is written before its value is published via a volatile write, and a
+ * resize builds a new table that is published as a whole, leaving the old one untouched for concurrent readers. Writes
+ * are serialised on the table. Values are computed outside of the lock, so concurrent misses on the same key may each
+ * compute the value, the first one stored is retained and returned to all callers. Null results are stored as a
+ * sentinel.
+ */
+final class LongKeyTable {
+
+    private static final Object NULL = new Object();
+    private static final int INITIAL_CAPACITY = 16;
+
+    private volatile Slots slots = new Slots(
+                                             INITIAL_CAPACITY);
+    private int size;
+
+    /**
+     * @param key Key to look up
+     * @param loader Computes the value if key is absent
+     * @return Stored value for key
+     */
+    <R> R computeIfAbsent(long key, LongFunction<? extends R> loader) {
+        Object cached = slots.get(key);
+        if (cached != null)
+            return unmask(cached);
+        return unmask(putIfAbsent(key, mask(loader.apply(key))));
+    }
+
+    private synchronized Object putIfAbsent(long key, Object value) {
+        Slots current = slots;
+        Object existing = current.get(key);
+        if (existing != null)
+            return existing;
+        if (++size * 2 > current.keys.length) {
+            current = current.resize();
+            slots = current;
+        }
+        current.put(key, value);
+        return value;
+    }
+
+    private static <R> R unmask(Object value) {
+        return value == NULL ? null : (R) value;
+    }
+
+    private static Object mask(Object value) {
+        return value == null ? NULL : value;
+    }
+
+    private static int index(long key, int mask) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    private static final class Slots {
+        private final long[] keys;
+        private final AtomicReferenceArray<Object> values;
+
+        Slots(int capacity) {
+            keys = new long[capacity];
+            values = new AtomicReferenceArray<>(
+                                                capacity);
+        }
+
+        Object get(long key) {
+            int mask = keys.length - 1;
+            for (int i = index(key, mask);; i = (i + 1) & mask) {
+                Object value = values.get(i);
+                if (value == null)
+                    return null;
+                if (keys[i] == key)
+                    return value;
+            }
+        }
+
+        void put(long key, Object value) {
+            int mask = keys.length - 1;
+            int i = index(key, mask);
+            while (values.get(i) != null)
+                i = (i + 1) & mask;
+            keys[i] = key;
+            values.set(i, value);
+        }
+
+        Slots resize() {
+            Slots next = new Slots(
+                                   keys.length * 2);
+            for (int i = 0; i < keys.length; i++) {
+                Object value = values.get(i);
+                if (value != null)
+                    next.put(keys[i], value);
+            }
+            return next;
+        }
+    }
+}
@@ -0,0 +1,277 @@
+package com.aol.cyclops.javaslang.caching;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import com.aol.cyclops.util.function.Cacheable;
+
+/**
+ * Persistent Cacheable that stores serialized entries in a memory mapped file
+ *
+ * <pre>
+ * {@code
+ *  MappedFileCacheable<Template> disk = Memoize.mappedCache(Paths.get("templates.cache"), 64 * 1024 * 1024, 10_000);
+ *  Function<String,Template> compile = Memoize.memoizeFunction(this::compile,
+ *                                                              Memoize.tiered(Memoize.cache(CachePolicy.maximumSize(100)), disk));
+ * }
+ * </pre>
+ *
+ * Entries are appended to the file as [key length][value length][key][value] records after a small header, with an
+ * on heap index from key to record offset. Opening an existing file scans the records and rebuilds the index, so
+ * memoised values survive a restart (values are only deserialized when requested). Both the number of entries and the
+ * size of the file are bounded: when either bound is exceeded the least recently used entries are dropped from the
+ * index, and when the file is full the live records are compacted towards its start. Dropped and replaced records
+ * are marked as dead in the file (their key length is stored inverted), so they are skipped when the file is reopened.
+ *
+ * Reads and writes are serialised on the cache, values are computed and deserialized outside of the lock. The mapped
+ * region remains mapped until garbage collected after {@link #close()}. Changes are only guaranteed to be written to
+ * the file by {@link #close()}, the operating system may write mapped pages in any order before then, so a file that
+ * was not closed (e.g. after a crash) may lose or contain corrupt recent entries.
+ *
+ * @param <R> Type of the cached values
+ */
+public final class MappedFileCacheable<R> implements Cacheable<R>, Closeable {
+
+    private static final int MAGIC = 0x4D454D4F;
+    private static final int HEADER = 8;
+    private static final int RECORD_HEADER = 8;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private final long maximumSize;
+    private final CacheSerializer<Object> keys;
+    private final CacheSerializer<R> values;
+    private final LinkedHashMap<Object, Integer> index = new LinkedHashMap<>(
+                                                                             16, 0.75f, true);
+    private int end;
+    private long liveBytes;
+    private long evictions;
+
+    private MappedFileCacheable(FileChannel channel, int capacity, long maximumSize, CacheSerializer<Object> keys,
+            CacheSerializer<R> values) throws IOException {
+        this.channel = channel;
+        this.capacity = capacity;
+        this.maximumSize = maximumSize;
+        this.keys = keys;
+        this.values = values;
+        this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        warm();
+    }
+
+    /**
+     * Open (or create) a memory mapped cache file
+     *
+     * @param file File to store entries in
+     * @param capacityBytes Size of the mapped region, including an 8 byte header
+     * @param maximumSize Maximum number of entries
+     * @param keys Serializer for keys
+     * @param values Serializer for values
+     * @return Cache containing any entries already stored in file
+     * @throws IOException If the file can not be opened or mapped
+     */
+    public static <R> MappedFileCacheable<R> open(Path file, int capacityBytes, long maximumSize,
+            CacheSerializer<Object> keys, CacheSerializer<R> values) throws IOException {
+        if (capacityBytes <= HEADER)
+            throw new IllegalArgumentException(
+                                               "capacityBytes must be greater than " + HEADER);
+        if (maximumSize < 0)
+            throw new IllegalArgumentException(
+                                               "maximumSize must not be negative " + maximumSize);
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                                               StandardOpenOption.WRITE);
+        try {
+            return new MappedFileCacheable<>(
+                                             channel, capacityBytes, maximumSize, keys, values);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see com.aol.cyclops.util.function.Cacheable#computeIfAbsent(java.lang.Object, java.util.function.Function)
+     */
+    @Override
+    public R computeIfAbsent(Object key, Function<Object, R> fn) {
+        byte[] stored = read(key);
+        if (stored != null)
+            return values.deserialize(stored);
+        R value = fn.apply(key);
+        write(key, keys.serialize(key), values.serialize(value));
+        return value;
+    }
+
+    /**
+     * @return Number of entries stored
+     */
+    public synchronized int size() {
+        return index.size();
+    }
+
+    /**
+     * @return Number of entries dropped because the entry count or file size bound was exceeded
+     */
+    public synchronized long evictionCount() {
+        return evictions;
+    }
+
+    /**
+     * Flush all entries to the file and close it
+     *
+     * @see java.io.Closeable#close()
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        buffer.force();
+        channel.close();
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public synchronized String toString() {
+        return "MappedFileCacheable[size=" + index.size() + ", bytes=" + end + "/" + capacity + "]";
+    }
+
+    private synchronized byte[] read(Object key) {
+        Integer offset = index.get(key);
+        if (offset == null)
+            return null;
+        return copy(offset + RECORD_HEADER + buffer.getInt(offset), buffer.getInt(offset + 4));
+    }
+
+    private synchronized void write(Object key, byte[] keyBytes, byte[] valueBytes) {
+        int size = RECORD_HEADER + keyBytes.length + valueBytes.length;
+        if (maximumSize == 0 || HEADER + (long) size > capacity)
+            return;
+        Integer previous = index.remove(key);
+        if (previous != null)
+            kill(previous);
+        while (index.size() >= maximumSize)
+            evictEldest();
+        if ((long) end + size > capacity) {
+            while (HEADER + liveBytes + size > capacity)
+                evictEldest();
+            compact();
+        }
+        buffer.putInt(end, keyBytes.length);
+        buffer.putInt(end + 4, valueBytes.length);
+        ByteBuffer target = buffer.duplicate();
+        target.position(end + RECORD_HEADER);
+        target.put(keyBytes);
+        target.put(valueBytes);
+        index.put(key, end);
+        end += size;
+        liveBytes += size;
+        buffer.putInt(4, end);
+    }
+
+    private void warm() {
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) < HEADER || buffer.getInt(4) > capacity) {
+            buffer.putInt(0, MAGIC);
+            end = HEADER;
+            buffer.putInt(4, end);
+            return;
+        }
+        int limit = buffer.getInt(4);
+        int position = HEADER;
+        while (position < limit) {
+            int keyLength = buffer.getInt(position);
+            int valueLength = buffer.getInt(position + 4);
+            boolean dead = keyLength < 0;
+            if (dead)
+                keyLength = ~keyLength;
+            if (valueLength < 0 || (long) position + RECORD_HEADER + keyLength + valueLength > limit)
+                break;
+            if (dead) {
+                position += RECORD_HEADER + keyLength + valueLength;
+                continue;
+            }
+            Object key;
+            try {
+                key = keys.deserialize(copy(position + RECORD_HEADER, keyLength));
+            } catch (RuntimeException e) {
+                break;
+            }
+            Integer previous = index.put(key, position);
+            if (previous != null)
+                kill(previous);
+            int size = RECORD_HEADER + keyLength + valueLength;
+            liveBytes += size;
+            position += size;
+        }
+        end = position;
+        buffer.putInt(4, end);
+        while (index.size() > maximumSize)
+            evictEldest();
+    }
+
+    private void evictEldest() {
+        Iterator<Map.Entry<Object, Integer>> it = index.entrySet()
+                                                       .iterator();
+        int offset = it.next()
+                       .getValue();
+        it.remove();
+        kill(offset);
+        evictions++;
+    }
+
+    /**
+     * Mark the (live) record at offset as dead, by inverting it's key length, so it is not indexed on reopen
+     */
+    private void kill(int offset) {
+        liveBytes -= recordSize(offset);
+        buffer.putInt(offset, ~buffer.getInt(offset));
+    }
+
+    private void compact() {
+        List<Map.Entry<Object, Integer>> live = new ArrayList<>(
+                                                                index.entrySet());
+        live.sort(Comparator.comparing(Map.Entry::getValue));
+        int position = HEADER;
+        for (Map.Entry<Object, Integer> entry : live) {
+            int offset = entry.getValue();
+            int size = recordSize(offset);
+            if (offset != position) {
+                byte[] record = copy(offset, size);
+                ByteBuffer target = buffer.duplicate();
+                target.position(position);
+                target.put(record);
+                entry.setValue(position);
+            }
+            position += size;
+        }
+        end = position;
+        buffer.putInt(4, end);
+    }
+
+    private int recordSize(int offset) {
+        return RECORD_HEADER + buffer.getInt(offset) + buffer.getInt(offset + 4);
+    }
+
+    private byte[] copy(int offset, int length) {
+        byte[] bytes = new byte[length];
+        ByteBuffer source = buffer.duplicate();
+        source.position(offset);
+        source.get(bytes);
+        return bytes;
+    }
+}
@@ -1,11 +1,18 @@
 package com.aol.cyclops.javaslang.caching;
 
-import java.util.Map;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.concurrent.Callable;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.DoubleFunction;
 import java.util.function.Function;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntFunction;
+import java.util.function.LongFunction;
 import java.util.function.Predicate;
 
+import com.aol.cyclops.util.ExceptionSoftener;
 import com.aol.cyclops.util.function.Cacheable;
 
 import javaslang.Function0;
@@ -16,6 +23,8 @@ import javaslang.Function4;
 import javaslang.Tuple2;
 import javaslang.Tuple3;
 import javaslang.Tuple4;
+import javaslang.concurrent.Future;
+import javaslang.concurrent.Promise;
 import lombok.val;
 
 public class Memoize {
@@ -23,12 +32,27 @@ public class Memoize {
     /**
      * Convert a Function0 into one that caches it's result
      * 
+     * The result is held directly by the returned Function0 (no Map is allocated), once computed it is returned after a
+     * single volatile read. Exceptions are not cached, the next call retries.
+     * 
      * @param s Function0 to memoise
      * @return Memoised Function0
      */
     public static <T> Function0<T> memoizeFunction0(Function0<T> s) {
-        Map<Object, T> lazy = new ConcurrentHashMap<>();
-        return () -> lazy.computeIfAbsent("k", a -> s.get());
+        return memoizeFunction0(s, false);
+    }
+
+    /**
+     * Convert a Function0 into one that caches it's result
+     * 
+     * @param s Function0 to memoise
+     * @param cacheExceptions true if an Exception thrown by s should be cached and rethrown on subsequent calls, false
+     *            if subsequent calls should retry
+     * @return Memoised Function0
+     */
+    public static <T> Function0<T> memoizeFunction0(Function0<T> s, boolean cacheExceptions) {
+        return new MemoizedValue<T>(
+                                    s::apply, cacheExceptions);
     }
 
     /**
@@ -68,31 +92,44 @@ public class Memoize {
     /**
      * Convert a Callable into one that caches it's result
      * 
+     * The result is held directly by the returned Callable (no Map is allocated), once computed it is returned after a
+     * single volatile read. Exceptions are not cached, the next call retries.
+     * 
      * @param s Callable to memoise
      * @return Memoised Callable
      */
     public static <T> Callable<T> memoizeCallable(Callable<T> s) {
-        Map<Object, T> lazy = new ConcurrentHashMap<>();
-        return () -> lazy.computeIfAbsent("k", a -> {
-            try {
-                return s.call();
-            } catch (Exception e) {
-                throwSoftenedException(e);
-                return null;
-            }
+        return memoizeCallable(s, false);
+    }
 
-        });
+    /**
+     * Convert a Callable into one that caches it's result
+     * 
+     * @param s Callable to memoise
+     * @param cacheExceptions true if an Exception thrown by s should be cached and rethrown on subsequent calls, false
+     *            if subsequent calls should retry
+     * @return Memoised Callable
+     */
+    public static <T> Callable<T> memoizeCallable(Callable<T> s, boolean cacheExceptions) {
+        return new MemoizedValue<T>(
+                                    s, cacheExceptions);
     }
 
     /**
      * Convert a Function into one that caches it's result
      * 
+     * Cache hits perform a single ConcurrentHashMap lookup and do not allocate. Null arguments and null results are
+     * supported.
+     * 
      * @param fn Function to memoise
      * @return Memoised Function
      */
     public static <T, R> Function<T, R> memoizeFunction(Function1<T, R> fn) {
-        Map<T, R> lazy = new ConcurrentHashMap<>();
-        return t -> lazy.computeIfAbsent(t, fn);
+        KeyTable table = new KeyTable();
+        return t -> {
+            Object cached = table.get(t);
+            return cached != null ? KeyTable.unmask(cached) : table.load(t, () -> fn.apply(t));
+        };
     }
 
     /**
@@ -110,13 +147,19 @@ public class Memoize {
     /**
      * Convert a BiFunction into one that caches it's result
      * 
+     * Results are stored in nested tables keyed by each argument in turn, rather than against a Tuple2 key, so cache
+     * hits do not allocate.
+     * 
      * @param fn BiFunction to memoise
      * @return Memoised BiFunction
      */
     public static <T1, T2, R> Function2<T1, T2, R> memoizeBiFunction(Function2<T1, T2, R> fn) {
-        val memoise2 = memoizeFunction((Tuple2<T1, T2> pair) -> fn.apply(pair._1, pair._2));
-        return (t1, t2) -> memoise2.apply(new Tuple2<>(
-                                                       t1, t2));
+        KeyTable root = new KeyTable();
+        return (t1, t2) -> {
+            KeyTable results = root.next(t1);
+            Object cached = results.get(t2);
+            return cached != null ? KeyTable.unmask(cached) : results.load(t2, () -> fn.apply(t1, t2));
+        };
     }
 
     /**
@@ -135,13 +178,20 @@ public class Memoize {
     /**
      * Convert a Function3 into one that caches it's result
      * 
+     * Results are stored in nested tables keyed by each argument in turn, rather than against a Tuple3 key, so cache
+     * hits do not allocate.
+     * 
      * @param fn TriFunction to memoise
      * @return Memoised TriFunction
      */
     public static <T1, T2, T3, R> Function3<T1, T2, T3, R> memoizeTriFunction(Function3<T1, T2, T3, R> fn) {
-        val memoise2 = memoizeFunction((Tuple3<T1, T2, T3> triple) -> fn.apply(triple._1, triple._2, triple._3));
-        return (t1, t2, t3) -> memoise2.apply(new Tuple3<>(
-                                                           t1, t2, t3));
+        KeyTable root = new KeyTable();
+        return (t1, t2, t3) -> {
+            KeyTable results = root.next(t1)
+                                   .next(t2);
+            Object cached = results.get(t3);
+            return cached != null ? KeyTable.unmask(cached) : results.load(t3, () -> fn.apply(t1, t2, t3));
+        };
     }
 
     /**
@@ -161,14 +211,22 @@ public class Memoize {
     /**
      * Convert a QuadFunction into one that caches it's result
      * 
+     * Results are stored in nested tables keyed by each argument in turn, rather than against a Tuple4 key, so cache
+     * hits do not allocate.
+     * 
      * @param fn QuadFunction to memoise
      * @return Memoised TriFunction
      */
     public static <T1, T2, T3, T4, R> Function4<T1, T2, T3, T4, R> memoizeQuadFunction(
             Function4<T1, T2, T3, T4, R> fn) {
-        val memoise2 = memoizeFunction((Tuple4<T1, T2, T3, T4> quad) -> fn.apply(quad._1, quad._2, quad._3, quad._4));
-        return (t1, t2, t3, t4) -> memoise2.apply(new Tuple4<>(
-                                                               t1, t2, t3, t4));
+        KeyTable root = new KeyTable();
+        return (t1, t2, t3, t4) -> {
+            KeyTable results = root.next(t1)
+                                   .next(t2)
+                                   .next(t3);
+            Object cached = results.get(t4);
+            return cached != null ? KeyTable.unmask(cached) : results.load(t4, () -> fn.apply(t1, t2, t3, t4));
+        };
     }
 
     /**
@@ -209,6 +267,365 @@ public class Memoize {
         return (t) -> memoised.apply(t);
     }
 
+    /**
+     * Memoise a recursive definition, the definition receives the memoised function to make it's recursive calls
+     *
+     * <pre>
+     * {@code
+     *  Function1<Integer,Long> fib = Memoize.memoizeRecursive((self, n) -> n < 2 ? n : self.apply(n - 1) + self.apply(n - 2));
+     * }
+     * </pre>
+     *
+     * Unlike {@link #memoizeFunction(Function1)}, values are not computed inside ConcurrentHashMap#computeIfAbsent, so
+     * recursive calls can not fail with a recursive update. Recursion depth is limited by the Java stack, see
+     * {@link #memoizeRecursive(Function2, int)} for deep recursion.
+     *
+     * @param fn Recursive definition to memoise
+     * @return Memoised Function
+     */
+    public static <T, R> Function1<T, R> memoizeRecursive(Function2<Function1<T, R>, T, R> fn) {
+        return new RecursiveMemoizer<>(
+                                       fn, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Memoise a recursive definition, limiting the depth of nested recursive calls on the Java stack
+     *
+     * <pre>
+     * {@code
+     *  Function1<Integer,BigInteger> fib = Memoize.memoizeRecursive((self, n) -> n < 2 ? BigInteger.valueOf(n)
+     *                                                                          : self.apply(n - 1).add(self.apply(n - 2)), 1000);
+     *  fib.apply(100_000);
+     * }
+     * </pre>
+     *
+     * A recursive call that would nest deeper than maxDepth unwinds back to the outermost call, which computes the
+     * deferred key first and then retries the calls that depended on it. The definition must be free of side effects
+     * (parts of it may be re-run) and must not catch RuntimeExceptions thrown by the recursive calls.
+     *
+     * @param fn Recursive definition to memoise
+     * @param maxDepth Maximum number of nested recursive calls before unwinding
+     * @return Memoised Function
+     */
+    public static <T, R> Function1<T, R> memoizeRecursive(Function2<Function1<T, R>, T, R> fn, int maxDepth) {
+        return new RecursiveMemoizer<>(
+                                       fn, maxDepth);
+    }
+
+    /**
+     * Convert an IntFunction into one that caches it's result
+     *
+     * Results are stored in an open addressing table keyed by the unboxed int, cache hits neither box nor allocate.
+     *
+     * @param fn IntFunction to memoise
+     * @return Memoised IntFunction
+     */
+    public static <R> IntFunction<R> memoizeIntFunction(IntFunction<R> fn) {
+        LongKeyTable table = new LongKeyTable();
+        LongFunction<R> loader = k -> fn.apply((int) k);
+        return i -> table.computeIfAbsent(i, loader);
+    }
+
+    /**
+     * Convert an IntFunction into one that caches it's result, in an array for keys in the range minKey to maxKey
+     * (inclusive)
+     *
+     * Keys within the range are stored in a dense array indexed by key, keys outside of it fall back to an open
+     * addressing table. Suitable for functions keyed by ordinals or small ids.
+     *
+     * @param fn IntFunction to memoise
+     * @param minKey Lowest key stored in the array
+     * @param maxKey Highest key stored in the array
+     * @return Memoised IntFunction
+     */
+    public static <R> IntFunction<R> memoizeIntFunction(IntFunction<R> fn, int minKey, int maxKey) {
+        if (maxKey < minKey)
+            throw new IllegalArgumentException(
+                                               "maxKey " + maxKey + " is less than minKey " + minKey);
+        AtomicReferenceArray<Object> dense = new AtomicReferenceArray<>(
+                                                                        Math.toIntExact((long) maxKey - minKey + 1));
+        IntFunction<R> sparse = memoizeIntFunction(fn);
+        Object none = new Object();
+        return i -> {
+            if (i < minKey || i > maxKey)
+                return sparse.apply(i);
+            Object cached = dense.get(i - minKey);
+            if (cached == null) {
+                R result = fn.apply(i);
+                dense.compareAndSet(i - minKey, null, result == null ? none : result);
+                cached = dense.get(i - minKey);
+            }
+            return cached == none ? null : (R) cached;
+        };
+    }
+
+    /**
+     * Convert a LongFunction into one that caches it's result
+     *
+     * Results are stored in an open addressing table keyed by the unboxed long, cache hits neither box nor allocate.
+     *
+     * @param fn LongFunction to memoise
+     * @return Memoised LongFunction
+     */
+    public static <R> LongFunction<R> memoizeLongFunction(LongFunction<R> fn) {
+        LongKeyTable table = new LongKeyTable();
+        return l -> table.computeIfAbsent(l, fn);
+    }
+
+    /**
+     * Convert a DoubleFunction into one that caches it's result
+     *
+     * Results are stored in an open addressing table keyed by the bits of the unboxed double (as
+     * Double#doubleToLongBits, so all NaNs share an entry and 0.0 and -0.0 do not), cache hits neither box nor
+     * allocate.
+     *
+     * @param fn DoubleFunction to memoise
+     * @return Memoised DoubleFunction
+     */
+    public static <R> DoubleFunction<R> memoizeDoubleFunction(DoubleFunction<R> fn) {
+        LongKeyTable table = new LongKeyTable();
+        LongFunction<R> loader = bits -> fn.apply(Double.longBitsToDouble(bits));
+        return d -> table.computeIfAbsent(Double.doubleToLongBits(d), loader);
+    }
+
+    /**
+     * Convert an IntBinaryOperator into one that caches it's result
+     *
+     * Both operands are packed into a single long key, cache hits neither box nor allocate.
+     *
+     * @param fn IntBinaryOperator to memoise
+     * @return Memoised IntBinaryOperator
+     */
+    public static IntBinaryOperator memoizeIntBinaryOperator(IntBinaryOperator fn) {
+        LongKeyTable table = new LongKeyTable();
+        LongFunction<Integer> loader = k -> fn.applyAsInt((int) (k >>> 32), (int) k);
+        return (a, b) -> table.<Integer> computeIfAbsent(((long) a << 32) | (b & 0xFFFFFFFFL), loader);
+    }
+
+    /**
+     * Convert a Function that returns a javaslang Future into one that caches it's result
+     *
+     * <pre>
+     * {@code
+     *  Function1<Integer,Future<Data>> load = Memoize.memoizeAsync(id -> Future.of(() -> backend.load(id)));
+     * }
+     * </pre>
+     *
+     * Concurrent calls for a key whose load is still in flight share a single Future, so the underlying function is
+     * called once per key. Failed Futures are not cached, the next call after a failure starts a new load.
+     *
+     * @param fn Function to memoise
+     * @return Memoised Function
+     */
+    public static <T, R> Function1<T, Future<R>> memoizeAsync(Function1<T, Future<R>> fn) {
+        return memoizeAsync(fn, CachePolicy.unbounded());
+    }
+
+    /**
+     * Convert a Function that returns a javaslang Future into one that caches it's result, subject to the expiry and
+     * refresh settings of the supplied CachePolicy
+     *
+     * <pre>
+     * {@code
+     *  Function1<Integer,Future<Data>> load = Memoize.memoizeAsync(id -> Future.of(() -> backend.load(id)),
+     *                                                               CachePolicy.unbounded()
+     *                                                                          .expireAfterWrite(10, TimeUnit.MINUTES)
+     *                                                                          .refreshAfterWrite(9, TimeUnit.MINUTES));
+     * }
+     * </pre>
+     *
+     * Concurrent calls for a key whose load is still in flight share a single Future, and failed Futures are not
+     * cached. Expiry is measured from when a load completes. With refreshAfterWrite set, a call made after the refresh
+     * interval returns the current value and reloads it in the background, a failed refresh leaves the current value in
+     * place.
+     *
+     * @param fn Function to memoise
+     * @param policy Expiry and refresh policy, maximumSize and weak or soft values are not supported
+     * @return Memoised Function
+     */
+    public static <T, R> Function1<T, Future<R>> memoizeAsync(Function1<T, Future<R>> fn, CachePolicy policy) {
+        AsyncMemoizer<T, R, Future<R>> memoizer = new AsyncMemoizer<>(
+                                                                      fn, Memoize::toCompletableFuture,
+                                                                      Memoize::fromCompletableFuture, policy);
+        return memoizer::apply;
+    }
+
+    /**
+     * Convert a Function that returns a CompletableFuture into one that caches it's result
+     *
+     * Concurrent calls for a key whose load is still in flight share a single load, so the underlying function is
+     * called once per key. Each call returns a dependent copy of the cached CompletableFuture, completing or
+     * cancelling it does not affect other callers. Failed CompletableFutures are not cached, the next call after a
+     * failure starts a new load.
+     *
+     * @param fn Function to memoise
+     * @return Memoised Function
+     */
+    public static <T, R> Function1<T, CompletableFuture<R>> memoizeCompletableFuture(
+            Function1<T, CompletableFuture<R>> fn) {
+        return memoizeCompletableFuture(fn, CachePolicy.unbounded());
+    }
+
+    /**
+     * Convert a Function that returns a CompletableFuture into one that caches it's result, subject to the expiry and
+     * refresh settings of the supplied CachePolicy
+     *
+     * @see #memoizeAsync(Function1, CachePolicy)
+     * @param fn Function to memoise
+     * @param policy Expiry and refresh policy, maximumSize and weak or soft values are not supported
+     * @return Memoised Function
+     */
+    public static <T, R> Function1<T, CompletableFuture<R>> memoizeCompletableFuture(
+            Function1<T, CompletableFuture<R>> fn, CachePolicy policy) {
+        AsyncMemoizer<T, R, CompletableFuture<R>> memoizer = new AsyncMemoizer<>(
+                                                                                 fn, Function.identity(),
+                                                                                 future -> future.thenApply(r -> r),
+                                                                                 policy);
+        return memoizer::apply;
+    }
+
+    private static <R> CompletableFuture<R> toCompletableFuture(Future<R> future) {
+        CompletableFuture<R> completable = new CompletableFuture<>();
+        future.onComplete(result -> {
+            if (result.isSuccess())
+                completable.complete(result.get());
+            else
+                completable.completeExceptionally(result.getCause());
+        });
+        return completable;
+    }
+
+    private static <R> Future<R> fromCompletableFuture(CompletableFuture<R> completable) {
+        if (completable.isDone() && !completable.isCompletedExceptionally())
+            return Future.successful(completable.join());
+        Promise<R> promise = Promise.make();
+        completable.whenComplete((result, error) -> {
+            if (error != null)
+                promise.failure(error);
+            else
+                promise.success(result);
+        });
+        return promise.future();
+    }
+
+    /**
+     * Create a bounded Cacheable for use with the memoize methods that accept a Cacheable
+     *
+     * <pre>
+     * {@code
+     *  MemoizeCache<Integer> cache = Memoize.cache(CachePolicy.maximumSize(1000)
+     *                                                         .expireAfterWrite(1, TimeUnit.MINUTES));
+     *  Function<Integer,Integer> fn = Memoize.memoizeFunction(this::load, cache);
+     *
+     *  cache.stats().hitRate();
+     * }
+     * </pre>
+     *
+     * Each memoised function should be given it's own cache, so that keys do not clash and stats reflect a single
+     * function.
+     *
+     * @param policy Size, expiry and reference strength policy for the cache
+     * @return New empty cache
+     */
+    public static <R> MemoizeCache<R> cache(CachePolicy policy) {
+        return new MemoizeCache<>(
+                                  policy);
+    }
+
+    /**
+     * Add single flight loading in front of a Cacheable, so that concurrent misses on the same key compute the value
+     * once
+     *
+     * <pre>
+     * {@code
+     *  SingleFlightCacheable<Integer> cache = Memoize.singleFlight(externalCache);
+     *  Function<Integer,Integer> fn = Memoize.memoizeFunction(this::load, cache);
+     *
+     *  cache.coalescedCount();
+     * }
+     * </pre>
+     *
+     * @param cache Cacheable to wrap
+     * @return Cacheable that coalesces concurrent loads of the same key
+     */
+    public static <R> SingleFlightCacheable<R> singleFlight(Cacheable<R> cache) {
+        return new SingleFlightCacheable<>(
+                                           cache);
+    }
+
+    /**
+     * Open (or create) a persistent, memory mapped Cacheable. Keys and values are stored using Java serialization.
+     *
+     * @see MappedFileCacheable
+     * @param file File to store entries in, entries already stored are available immediately
+     * @param capacityBytes Size of the file
+     * @param maximumSize Maximum number of entries
+     * @return Memory mapped Cacheable
+     */
+    public static <R> MappedFileCacheable<R> mappedCache(Path file, int capacityBytes, long maximumSize) {
+        return mappedCache(file, capacityBytes, maximumSize, CacheSerializer.javaSerialization(),
+                           CacheSerializer.javaSerialization());
+    }
+
+    /**
+     * Open (or create) a persistent, memory mapped Cacheable
+     *
+     * @see MappedFileCacheable
+     * @param file File to store entries in, entries already stored are available immediately
+     * @param capacityBytes Size of the file
+     * @param maximumSize Maximum number of entries
+     * @param keys Serializer for keys
+     * @param values Serializer for values
+     * @return Memory mapped Cacheable
+     */
+    public static <R> MappedFileCacheable<R> mappedCache(Path file, int capacityBytes, long maximumSize,
+            CacheSerializer<Object> keys, CacheSerializer<R> values) {
+        try {
+            return MappedFileCacheable.open(file, capacityBytes, maximumSize, keys, values);
+        } catch (IOException e) {
+            throw ExceptionSoftener.throwSoftenedException(e);
+        }
+    }
+
+    /**
+     * Combine two Cacheables into a two tier cache, misses on the first tier are looked up in (and loaded via) the
+     * second tier
+     *
+     * <pre>
+     * {@code
+     *  Cacheable<Geo> cache = Memoize.tiered(Memoize.cache(CachePolicy.maximumSize(1000)),
+     *                                        Memoize.mappedCache(Paths.get("geo.cache"), 256 * 1024 * 1024, 1_000_000));
+     * }
+     * </pre>
+     *
+     * @param first In heap (typically smaller, faster) tier
+     * @param second Tier consulted on a first tier miss
+     * @return Two tier Cacheable
+     */
+    public static <R> Cacheable<R> tiered(Cacheable<R> first, Cacheable<R> second) {
+        return (key, fn) -> first.computeIfAbsent(key, k -> second.soften()
+                                                                  .computeIfAbsent(k, fn));
+    }
+
+    /**
+     * Obtain the memoizer registered under the supplied name, creating (and registering it's MBean) if it does not
+     * exist. Functions memoised via the returned memoizer record hits, misses, load times, size and evictions against
+     * the name.
+     *
+     * <pre>
+     * {@code
+     *  Function<Integer,Geo> lookup = Memoize.named("geo").memoizeFunction(this::lookup);
+     *  Memoize.named("geo").stats().hitRate();
+     * }
+     * </pre>
+     *
+     * @param name Name to record metrics against, also used as the name property of the MBean ObjectName
+     * @return Memoizer for name
+     */
+    public static NamedMemoizer named(String name) {
+        return NamedMemoizer.named(name);
+    }
+
     private static void throwSoftenedException(final Throwable e) {
         new Thrower<RuntimeException>().uncheck(e);
     }
@@ -0,0 +1,246 @@
+package com.aol.cyclops.javaslang.caching;
+
+import java.lang.ref.Reference;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import com.aol.cyclops.util.function.Cacheable;
+
+/**
+ * Bounded Cacheable for use with the Memoize methods, configured via a {@link CachePolicy}
+ *
+ * <pre>
+ * {@code
+ *  MemoizeCache<Integer> cache = Memoize.cache(CachePolicy.maximumSize(1000));
+ *  Function1<Integer,Integer> fn = Memoize.memoizeFunction(this::load, cache);
+ * }
+ * </pre>
+ *
+ * Entries are held in access ordered segments, each guarded by its own lock. Caches with a maximum size below 256 use a
+ * single segment and so evict in exact least recently used order; larger (or unbounded) caches are split into 16
+ * segments that each evict their own least recently used entry, approximating LRU across the cache. Expired entries,
+ * and entries whose weak or soft value has been collected, are removed when next read and periodically on write.
+ *
+ * Values are computed outside of the segment lock, concurrent misses on the same key may each compute the value (the
+ * last one written is retained). Null values are cached.
+ *
+ * @param <R> Type of the cached values
+ */
+public final class MemoizeCache<R> implements Cacheable<R> {
+
+    private static final int SEGMENTS = 16;
+    private static final int SINGLE_SEGMENT_THRESHOLD = 256;
+    /**
+     * Number of writes to a segment between sweeps for expired and collected entries
+     */
+    private static final int SWEEP_INTERVAL = 64;
+    private static final Object MISSING = new Object();
+
+    private final CachePolicy policy;
+    private final Segment[] segments;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder loadTime = new LongAdder();
+
+    MemoizeCache(CachePolicy policy) {
+        this.policy = policy;
+        int count = policy.isBounded() && policy.maximumSize < SINGLE_SEGMENT_THRESHOLD ? 1 : SEGMENTS;
+        this.segments = new Segment[count];
+        for (int i = 0; i < count; i++) {
+            long max = policy.isBounded() ? policy.maximumSize / count + (i < policy.maximumSize % count ? 1 : 0)
+                    : Long.MAX_VALUE;
+            segments[i] = new Segment(
+                                      policy, evictions, max);
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see com.aol.cyclops.util.function.Cacheable#computeIfAbsent(java.lang.Object, java.util.function.Function)
+     */
+    @Override
+    public R computeIfAbsent(Object key, Function<Object, R> fn) {
+        Segment segment = segmentFor(key);
+        Object cached = segment.get(key, policy.ticker.getAsLong());
+        if (cached != MISSING) {
+            hits.increment();
+            return (R) cached;
+        }
+        misses.increment();
+        long start = policy.ticker.getAsLong();
+        R value;
+        try {
+            value = fn.apply(key);
+        } finally {
+            loadTime.add(policy.ticker.getAsLong() - start);
+        }
+        segment.put(key, value, policy.ticker.getAsLong());
+        return value;
+    }
+
+    /**
+     * @return Snapshot of the hit, miss, eviction and load time counters
+     */
+    public CacheStats stats() {
+        return new CacheStats(
+                              hits.sum(), misses.sum(), evictions.sum(), loadTime.sum());
+    }
+
+    /**
+     * @return Number of entries currently held, this may include expired entries that have not yet been removed
+     */
+    public long size() {
+        long size = 0;
+        for (Segment segment : segments)
+            size += segment.size();
+        return size;
+    }
+
+    /**
+     * Remove all entries, removed entries are not counted as evictions
+     */
+    public void invalidateAll() {
+        for (Segment segment : segments)
+            segment.clear();
+    }
+
+    /**
+     * Remove all expired entries and entries whose value has been garbage collected
+     */
+    public void cleanUp() {
+        long now = policy.ticker.getAsLong();
+        for (Segment segment : segments)
+            segment.sweep(now);
+    }
+
+    /**
+     * @return Policy this cache was created with
+     */
+    public CachePolicy policy() {
+        return policy;
+    }
+
+    private Segment segmentFor(Object key) {
+        if (segments.length == 1)
+            return segments[0];
+        int h = Objects.hashCode(key);
+        return segments[(h ^ (h >>> 16)) & (segments.length - 1)];
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return "MemoizeCache[size=" + size() + ", " + stats() + ", " + policy + "]";
+    }
+
+    private static final class Entry {
+        private final Object value;
+        private final boolean referenced;
+        private final long writeTime;
+        private long accessTime;
+
+        Entry(Object value, CachePolicy.ValueStrength strength, long now) {
+            this.referenced = value != null && strength != CachePolicy.ValueStrength.STRONG;
+            this.value = !referenced ? value
+                    : strength == CachePolicy.ValueStrength.WEAK ? new WeakReference<>(
+                                                                                       value)
+                            : new SoftReference<>(
+                                                  value);
+            this.writeTime = now;
+            this.accessTime = now;
+        }
+
+        Object value() {
+            return referenced ? ((Reference<?>) value).get() : value;
+        }
+
+        boolean isStale(CachePolicy policy, long now) {
+            if (policy.expireAfterWriteNanos != CachePolicy.UNSET && now - writeTime >= policy.expireAfterWriteNanos)
+                return true;
+            if (policy.expireAfterAccessNanos != CachePolicy.UNSET && now - accessTime >= policy.expireAfterAccessNanos)
+                return true;
+            return referenced && ((Reference<?>) value).get() == null;
+        }
+    }
+
+    private static final class Segment extends LinkedHashMap<Object, Entry> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final CachePolicy policy;
+        private final LongAdder evictions;
+        private final long maximumSize;
+        private final boolean sweeps;
+        private int writes;
+
+        Segment(CachePolicy policy, LongAdder evictions, long maximumSize) {
+            super(16, 0.75f, true);
+            this.policy = policy;
+            this.evictions = evictions;
+            this.maximumSize = maximumSize;
+            this.sweeps = policy.expires() || policy.valueStrength != CachePolicy.ValueStrength.STRONG;
+        }
+
+        synchronized Object get(Object key, long now) {
+            Entry entry = super.get(key);
+            if (entry == null)
+                return MISSING;
+            Object value = entry.value();
+            if (entry.isStale(policy, now)) {
+                remove(key);
+                evictions.increment();
+                return MISSING;
+            }
+            entry.accessTime = now;
+            return value;
+        }
+
+        synchronized void put(Object key, Object value, long now) {
+            super.put(key, new Entry(
+                                     value, policy.valueStrength, now));
+            if (sweeps && ++writes % SWEEP_INTERVAL == 0)
+                sweep(now);
+        }
+
+        synchronized void sweep(long now) {
+            for (Iterator<Entry> it = values().iterator(); it.hasNext();) {
+                if (it.next()
+                      .isStale(policy, now)) {
+                    it.remove();
+                    evictions.increment();
+                }
+            }
+        }
+
+        @Override
+        public synchronized int size() {
+            return super.size();
+        }
+
+        @Override
+        public synchronized void clear() {
+            super.clear();
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Object, Entry> eldest) {
+            if (size() <= maximumSize)
+                return false;
+            evictions.increment();
+            return true;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.aol.cyclops.javaslang.caching;
+
+import java.util.concurrent.Callable;
+
+import com.aol.cyclops.util.ExceptionSoftener;
+
+import javaslang.Function0;
+
+/**
+ * Lazily computed, cached single value backing {@link Memoize#memoizeFunction0(Function0)} and
+ * {@link Memoize#memoizeCallable(Callable)}
+ *
+ * Once computed the value is returned after a single volatile read, the first computation is guarded by double checked
+ * locking so the source is called at most once. Null results are cached. Exceptions are rethrown and, if cacheExceptions
+ * is set, cached and rethrown on every subsequent call, otherwise the next call retries the computation. Errors (e.g.
+ * OutOfMemoryError or StackOverflowError) are never cached, the next call retries the computation.
+ *
+ * @param <T> Type of the memoised value
+ */
+final class MemoizedValue<T> implements Function0<T>, Callable<T> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final boolean cacheExceptions;
+    /**
+     * Non-null until the value (or a cached exception) is available, the volatile write of null publishes value and error
+     */
+    private volatile Callable<? extends T> source;
+    private T value;
+    private Throwable error;
+
+    MemoizedValue(Callable<? extends T> source, boolean cacheExceptions) {
+        this.source = source;
+        this.cacheExceptions = cacheExceptions;
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.util.concurrent.Callable#call()
+     */
+    @Override
+    public T call() throws Exception {
+        if (source != null)
+            initialize();
+        if (error != null)
+            throw ExceptionSoftener.throwSoftenedException(error);
+        return value;
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see javaslang.Function0#apply()
+     */
+    @Override
+    public T apply() {
+        try {
+            return call();
+        } catch (Exception e) {
+            throw ExceptionSoftener.throwSoftenedException(e);
+        }
+    }
+
+    private synchronized void initialize() throws Exception {
+        Callable<? extends T> toCall = source;
+        if (toCall == null)
+            return;
+        try {
+            value = toCall.call();
+        } catch (Exception e) {
+            if (!cacheExceptions)
+                throw e;
+            error = e;
+        }
+        source = null;
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return source == null ? "MemoizedValue[" + (error != null ? error : value) + "]" : "MemoizedValue[<not computed>]";
+    }
+}
@@ -0,0 +1,27 @@
+package com.aol.cyclops.javaslang.caching;
+
+/**
+ * JMX view of a {@link NamedMemoizer}, registered as com.aol.cyclops.javaslang.caching:type=Memoizer,name=&lt;name&gt;
+ */
+public interface MemoizerMXBean {
+
+    String getName();
+
+    long getHitCount();
+
+    long getMissCount();
+
+    double getHitRate();
+
+    long getEvictionCount();
+
+    long getSize();
+
+    double getAverageLoadPenalty();
+
+    long getLoadTime50thPercentile();
+
+    long getLoadTime99thPercentile();
+
+    long getMaxLoadTime();
+}
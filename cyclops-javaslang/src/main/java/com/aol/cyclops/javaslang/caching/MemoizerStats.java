@@ -0,0 +1,95 @@
+package com.aol.cyclops.javaslang.caching;
+
+import java.util.function.IntToLongFunction;
+
+import lombok.Value;
+
+/**
+ * Immutable snapshot of the metrics recorded by a {@link NamedMemoizer}
+ */
+@Value
+public class MemoizerStats {
+    /**
+     * Name the memoizer was registered with
+     */
+    String name;
+    /**
+     * Number of calls answered from the cache
+     */
+    long hitCount;
+    /**
+     * Number of calls that computed a value
+     */
+    long missCount;
+    /**
+     * Number of entries removed by bounded caches, -1 if no memoised function reports evictions
+     */
+    long evictionCount;
+    /**
+     * Number of entries currently held, -1 if no memoised function reports it's size
+     */
+    long size;
+    /**
+     * Total time spent computing values, in nanoseconds
+     */
+    long totalLoadTime;
+    /**
+     * Longest time spent computing a single value, in nanoseconds
+     */
+    long maxLoadTime;
+    /**
+     * Count of loads by duration, bucket i holds loads that took less than 2^i nanoseconds (and at least 2^(i-1))
+     */
+    long[] loadTimeHistogram;
+
+    /**
+     * @return Ratio of hits to calls, 1.0 if there have been no calls
+     */
+    public double hitRate() {
+        return hitRate(hitCount, missCount);
+    }
+
+    /**
+     * @return Average time spent computing a value, in nanoseconds
+     */
+    public double averageLoadPenalty() {
+        return averageLoadPenalty(totalLoadTime, missCount);
+    }
+
+    /**
+     * @param percentile Percentile between 0 and 100
+     * @return Upper bound (in nanoseconds) of the histogram bucket the percentile falls in, 0 if there have been no
+     *         loads
+     */
+    public long loadTimePercentile(double percentile) {
+        return loadTimePercentile(i -> loadTimeHistogram[i], loadTimeHistogram.length, maxLoadTime, percentile);
+    }
+
+    static double hitRate(long hitCount, long missCount) {
+        long requests = hitCount + missCount;
+        return requests == 0 ? 1.0 : (double) hitCount / requests;
+    }
+
+    static double averageLoadPenalty(long totalLoadTime, long missCount) {
+        return missCount == 0 ? 0.0 : (double) totalLoadTime / missCount;
+    }
+
+    /**
+     * Percentile over a histogram read in place, so that live histograms need not be copied
+     */
+    static long loadTimePercentile(IntToLongFunction bucket, int buckets, long maxLoadTime, double percentile) {
+        long total = 0;
+        for (int i = 0; i < buckets; i++)
+            total += bucket.applyAsLong(i);
+        if (total == 0)
+            return 0;
+        long rank = Math.max((long) Math.ceil(total * percentile / 100.0), 1);
+        long seen = 0;
+        for (int i = 0; i < buckets; i++) {
+            seen += bucket.applyAsLong(i);
+            if (seen >= rank)
+                return i < 63 ? Math.min(1L << i, maxLoadTime) : maxLoadTime;
+        }
+        return maxLoadTime;
+    }
+}
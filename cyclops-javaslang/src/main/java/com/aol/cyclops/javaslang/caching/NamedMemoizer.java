@@ -0,0 +1,354 @@
+package com.aol.cyclops.javaslang.caching;
+
+import java.lang.management.ManagementFactory;
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import com.aol.cyclops.util.function.Cacheable;
+
+import javaslang.Function0;
+import javaslang.Function1;
+import javaslang.Function2;
+
+/**
+ * Memoizer that records metrics for the functions it memoises, obtained via {@link Memoize#named(String)}
+ *
+ * <pre>
+ * {@code
+ *  Function<Integer,Geo> lookup = Memoize.named("geo").memoizeFunction(this::lookup);
+ *
+ *  MemoizerStats stats = Memoize.named("geo").stats();
+ *  stats.hitRate();
+ *  stats.loadTimePercentile(99);
+ * }
+ * </pre>
+ *
+ * Hits, misses, load latency (as a power of two histogram), current size and evictions are recorded for all functions
+ * memoised via the same name, and are available as a {@link MemoizerStats} snapshot and via JMX (see
+ * {@link MemoizerMXBean}). Size and evictions are reported for the unbounded memoizers and for MemoizeCache and
+ * MappedFileCacheable backed memoizers, other Cacheables do not contribute to them. Memoised functions are tracked
+ * weakly, once a memoised function (and it's cache) is no longer reachable it stops contributing to size and evictions.
+ */
+public final class NamedMemoizer implements MemoizerMXBean {
+
+    private static final String DOMAIN = "com.aol.cyclops.javaslang.caching";
+    private static final ConcurrentHashMap<String, NamedMemoizer> REGISTRY = new ConcurrentHashMap<>();
+
+    private final String name;
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder totalLoadTime = new LongAdder();
+    private final LongAccumulator maxLoadTime = new LongAccumulator(
+                                                                    Math::max, 0);
+    private final AtomicLongArray histogram = new AtomicLongArray(
+                                                                  64);
+    private final Queue<Tracked<?>> tracked = new ConcurrentLinkedQueue<>();
+    private volatile ObjectName objectName;
+
+    private NamedMemoizer(String name) {
+        this.name = name;
+    }
+
+    static NamedMemoizer named(String name) {
+        return REGISTRY.computeIfAbsent(name, n -> new NamedMemoizer(
+                                                                     n).register());
+    }
+
+    /**
+     * Convert a Function0 into one that caches it's result, recording metrics against this memoizer
+     *
+     * @see Memoize#memoizeFunction0(Function0)
+     * @param s Function0 to memoise
+     * @return Memoised Function0
+     */
+    public <T> Function0<T> memoizeFunction0(Function0<T> s) {
+        LongAdder size = track(new LongAdder());
+        Function0<T> memoised = Memoize.memoizeFunction0(() -> {
+            T result = load(s);
+            size.increment();
+            return result;
+        });
+        return () -> {
+            requests.increment();
+            return memoised.apply();
+        };
+    }
+
+    /**
+     * Convert a Function into one that caches it's result, recording metrics against this memoizer
+     *
+     * @see Memoize#memoizeFunction(Function1)
+     * @param fn Function to memoise
+     * @return Memoised Function
+     */
+    public <T, R> Function<T, R> memoizeFunction(Function1<T, R> fn) {
+        KeyTable table = new KeyTable();
+        LongAdder size = track(new LongAdder());
+        return t -> {
+            requests.increment();
+            Object cached = table.get(t);
+            return cached != null ? KeyTable.unmask(cached) : table.load(t, () -> loadEntry(size, () -> fn.apply(t)));
+        };
+    }
+
+    /**
+     * Convert a Function into one that caches it's result, recording metrics against this memoizer
+     *
+     * @see Memoize#memoizeFunction(Function1, Cacheable)
+     * @param fn Function to memoise
+     * @param cache Cacheable to store the results
+     * @return Memoised Function
+     */
+    public <T, R> Function<T, R> memoizeFunction(Function1<T, R> fn, Cacheable<R> cache) {
+        track(cache);
+        Function<T, R> memoised = Memoize.memoizeFunction(t -> load(() -> fn.apply(t)), cache);
+        return t -> {
+            requests.increment();
+            return memoised.apply(t);
+        };
+    }
+
+    /**
+     * Convert a BiFunction into one that caches it's result, recording metrics against this memoizer
+     *
+     * @see Memoize#memoizeBiFunction(Function2)
+     * @param fn BiFunction to memoise
+     * @return Memoised BiFunction
+     */
+    public <T1, T2, R> Function2<T1, T2, R> memoizeBiFunction(Function2<T1, T2, R> fn) {
+        KeyTable root = new KeyTable();
+        LongAdder size = track(new LongAdder());
+        return (t1, t2) -> {
+            requests.increment();
+            KeyTable results = root.next(t1);
+            Object cached = results.get(t2);
+            return cached != null ? KeyTable.unmask(cached)
+                    : results.load(t2, () -> loadEntry(size, () -> fn.apply(t1, t2)));
+        };
+    }
+
+    /**
+     * Convert a BiFunction into one that caches it's result, recording metrics against this memoizer
+     *
+     * @see Memoize#memoizeBiFunction(Function2, Cacheable)
+     * @param fn BiFunction to memoise
+     * @param cache Cacheable to store the results
+     * @return Memoised BiFunction
+     */
+    public <T1, T2, R> Function2<T1, T2, R> memoizeBiFunction(Function2<T1, T2, R> fn, Cacheable<R> cache) {
+        track(cache);
+        Function2<T1, T2, R> memoised = Memoize.memoizeBiFunction((t1, t2) -> load(() -> fn.apply(t1, t2)), cache);
+        return (t1, t2) -> {
+            requests.increment();
+            return memoised.apply(t1, t2);
+        };
+    }
+
+    /**
+     * @return Snapshot of the metrics recorded so far
+     */
+    public MemoizerStats stats() {
+        long missCount = misses.sum();
+        long[] buckets = new long[histogram.length()];
+        for (int i = 0; i < buckets.length; i++)
+            buckets[i] = histogram.get(i);
+        return new MemoizerStats(
+                                 name, hitCount(missCount), missCount, getEvictionCount(), getSize(),
+                                 totalLoadTime.sum(), maxLoadTime.get(), buckets);
+    }
+
+    /**
+     * Remove this memoizer from the registry and unregister it's MBean, a later call to Memoize#named with the same
+     * name creates a new memoizer
+     */
+    public void unregister() {
+        REGISTRY.remove(name, this);
+        ObjectName registered = objectName;
+        if (registered == null)
+            return;
+        try {
+            ManagementFactory.getPlatformMBeanServer()
+                             .unregisterMBean(registered);
+        } catch (JMException e) {
+            // already unregistered
+        }
+        objectName = null;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public long getHitCount() {
+        return hitCount(misses.sum());
+    }
+
+    @Override
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    @Override
+    public double getHitRate() {
+        long missCount = misses.sum();
+        return MemoizerStats.hitRate(hitCount(missCount), missCount);
+    }
+
+    @Override
+    public long getEvictionCount() {
+        return sum(false);
+    }
+
+    @Override
+    public long getSize() {
+        return sum(true);
+    }
+
+    @Override
+    public double getAverageLoadPenalty() {
+        return MemoizerStats.averageLoadPenalty(totalLoadTime.sum(), misses.sum());
+    }
+
+    @Override
+    public long getLoadTime50thPercentile() {
+        return loadTimePercentile(50);
+    }
+
+    @Override
+    public long getLoadTime99thPercentile() {
+        return loadTimePercentile(99);
+    }
+
+    @Override
+    public long getMaxLoadTime() {
+        return maxLoadTime.get();
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return "NamedMemoizer[" + stats() + "]";
+    }
+
+    private NamedMemoizer register() {
+        try {
+            ObjectName candidate = new ObjectName(
+                                                  DOMAIN + ":type=Memoizer,name=" + ObjectName.quote(name));
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            if (!server.isRegistered(candidate)) {
+                server.registerMBean(this, candidate);
+                objectName = candidate;
+            }
+        } catch (JMException e) {
+            // JMX is optional, stats() remains available
+        }
+        return this;
+    }
+
+    private LongAdder track(LongAdder size) {
+        tracked.add(new Tracked<>(
+                                  size, LongAdder::sum, null));
+        return size;
+    }
+
+    private void track(Cacheable<?> cache) {
+        if (cache instanceof MemoizeCache)
+            tracked.add(new Tracked<>(
+                                      (MemoizeCache<?>) cache, MemoizeCache::size, c -> c.stats()
+                                                                                         .getEvictionCount()));
+        else if (cache instanceof MappedFileCacheable)
+            tracked.add(new Tracked<>(
+                                      (MappedFileCacheable<?>) cache, MappedFileCacheable::size,
+                                      MappedFileCacheable::evictionCount));
+    }
+
+    private long hitCount(long missCount) {
+        return Math.max(requests.sum() - missCount, 0);
+    }
+
+    private long loadTimePercentile(double percentile) {
+        return MemoizerStats.loadTimePercentile(histogram::get, histogram.length(), maxLoadTime.get(), percentile);
+    }
+
+    private <R> R loadEntry(LongAdder size, Supplier<R> loader) {
+        R result = load(loader);
+        size.increment();
+        return result;
+    }
+
+    private <R> R load(Supplier<R> loader) {
+        misses.increment();
+        long start = System.nanoTime();
+        try {
+            return loader.get();
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            totalLoadTime.add(elapsed);
+            maxLoadTime.accumulate(elapsed);
+            histogram.incrementAndGet(Math.min(64 - Long.numberOfLeadingZeros(elapsed), histogram.length() - 1));
+        }
+    }
+
+    /**
+     * Sum the size (or evictions) of every memoised function that is still reachable, removing those that have been
+     * collected
+     *
+     * @return total, or -1 if no reachable memoised function reports it
+     */
+    private long sum(boolean size) {
+        long total = -1;
+        for (Iterator<Tracked<?>> it = tracked.iterator(); it.hasNext();) {
+            Tracked<?> next = it.next();
+            long value = next.get(size);
+            if (value == Tracked.COLLECTED)
+                it.remove();
+            else if (value >= 0)
+                total = Math.max(total, 0) + value;
+        }
+        return total;
+    }
+
+    /**
+     * Weak reference to the state of a memoised function, with non-capturing functions that read it's size and
+     * evictions so that the registry does not keep it reachable
+     */
+    private static final class Tracked<S> extends WeakReference<S> {
+        static final long COLLECTED = Long.MIN_VALUE;
+
+        private final ToLongFunction<? super S> size;
+        private final ToLongFunction<? super S> evictions;
+
+        Tracked(S source, ToLongFunction<? super S> size, ToLongFunction<? super S> evictions) {
+            super(source);
+            this.size = size;
+            this.evictions = evictions;
+        }
+
+        long get(boolean readSize) {
+            S source = get();
+            if (source == null)
+                return COLLECTED;
+            ToLongFunction<? super S> reader = readSize ? size : evictions;
+            return reader == null ? -1 : reader.applyAsLong(source);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.aol.cyclops.javaslang.caching;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javaslang.Function1;
+import javaslang.Function2;
+
+/**
+ * Memoiser for recursive definitions, backing Memoize#memoizeRecursive
+ *
+ * Results are computed outside of any map lock and then stored with putIfAbsent, so the definition can call itself
+ * (re-entrantly, on the same map) without the recursive update failures of ConcurrentHashMap#computeIfAbsent. Cached
+ * results are returned after a single ConcurrentHashMap#get.
+ *
+ * When a maximum depth is set, a self call that would exceed it unwinds back to the outermost call instead of growing
+ * the stack. The outermost call keeps an explicit stack of pending keys, computes the deepest one first and then
+ * retries the keys that depended on it, which now find their dependencies cached. This bounds the Java stack at
+ * maxDepth frames of the definition, at the cost of re-running the part of a definition that precedes a deferred self
+ * call, so definitions must be side effect free and must not catch the RuntimeExceptions thrown by self calls.
+ *
+ * @param <T> Argument type
+ * @param <R> Result type
+ */
+final class RecursiveMemoizer<T, R> implements Function1<T, R> {
+
+    private static final long serialVersionUID = 1L;
+    private static final Object NULL = new Object();
+
+    private final Function2<Function1<T, R>, T, R> fn;
+    private final int maxDepth;
+    private final ConcurrentHashMap<Object, Object> results = new ConcurrentHashMap<>();
+    private final ThreadLocal<int[]> depth = ThreadLocal.withInitial(() -> new int[1]);
+
+    RecursiveMemoizer(Function2<Function1<T, R>, T, R> fn, int maxDepth) {
+        if (maxDepth < 1)
+            throw new IllegalArgumentException(
+                                               "maxDepth must be positive " + maxDepth);
+        this.fn = fn;
+        this.maxDepth = maxDepth;
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see javaslang.Function1#apply(java.lang.Object)
+     */
+    @Override
+    public R apply(T key) {
+        Object cached = results.get(mask(key));
+        if (cached != null)
+            return unmask(cached);
+        int[] current = depth.get();
+        if (current[0] == 0)
+            return evaluate(key, current);
+        if (current[0] >= maxDepth)
+            throw new Deferred(
+                               this, key);
+        return compute(key, current);
+    }
+
+    private R evaluate(T key, int[] current) {
+        Deque<T> pending = new ArrayDeque<>();
+        pending.push(key);
+        for (;;) {
+            T next = pending.peek();
+            if (!results.containsKey(mask(next))) {
+                try {
+                    compute(next, current);
+                } catch (Deferred deferred) {
+                    if (deferred.owner != this)
+                        throw deferred;
+                    pending.push((T) deferred.key);
+                    continue;
+                }
+            }
+            pending.pop();
+            if (pending.isEmpty())
+                return unmask(results.get(mask(key)));
+        }
+    }
+
+    private R compute(T key, int[] current) {
+        current[0]++;
+        try {
+            Object result = mask(fn.apply(this, key));
+            Object existing = results.putIfAbsent(mask(key), result);
+            return unmask(existing != null ? existing : result);
+        } finally {
+            current[0]--;
+        }
+    }
+
+    private static <R> R unmask(Object value) {
+        return value == NULL ? null : (R) value;
+    }
+
+    private static Object mask(Object value) {
+        return value == null ? NULL : value;
+    }
+
+    /**
+     * Unwinds a self call that would exceed maxDepth back to the outermost call, carries no stack trace
+     */
+    private static final class Deferred extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        private final RecursiveMemoizer<?, ?> owner;
+        private final Object key;
+
+        Deferred(RecursiveMemoizer<?, ?> owner, Object key) {
+            super(null, null, false, false);
+            this.owner = owner;
+            this.key = key;
+        }
+    }
+}
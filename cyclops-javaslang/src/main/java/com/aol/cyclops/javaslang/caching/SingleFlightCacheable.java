@@ -0,0 +1,139 @@
+package com.aol.cyclops.javaslang.caching;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import com.aol.cyclops.util.ExceptionSoftener;
+import com.aol.cyclops.util.function.Cacheable;
+
+/**
+ * Cacheable that adds single flight loading in front of another Cacheable
+ *
+ * <pre>
+ * {@code
+ *  Map<Object,Integer> lru = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true));
+ *  SingleFlightCacheable<Integer> cache = Memoize.singleFlight((key, fn) -> {
+ *      Integer value = lru.get(key);
+ *      if (value == null)
+ *          lru.put(key, value = fn.apply(key));
+ *      return value;
+ *  });
+ *  Function<Integer,Integer> fn = Memoize.memoizeFunction(this::load, cache);
+ * }
+ * </pre>
+ *
+ * When the wrapped Cacheable misses and asks for a value, the first caller for a key registers a per key latch and
+ * computes the value, concurrent callers that miss on the same key wait on that latch and are handed the same value
+ * (or exception). The latch is released once the wrapped Cacheable has returned, so callers that miss in the window
+ * between the value being computed and it being stored still coalesce. Latches are held in a ConcurrentHashMap, so
+ * different keys load in parallel and cache hits never touch a latch.
+ *
+ * A recursive load of a key by the thread that is already loading it fails with an IllegalStateException rather than
+ * deadlocking.
+ *
+ * @param <R> Type of the cached values
+ */
+public final class SingleFlightCacheable<R> implements Cacheable<R> {
+
+    private static final Object NULL = new Object();
+
+    private final Cacheable<R> cache;
+    private final ConcurrentHashMap<Object, Latch<R>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    SingleFlightCacheable(Cacheable<R> cache) {
+        this.cache = cache;
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see com.aol.cyclops.util.function.Cacheable#computeIfAbsent(java.lang.Object, java.util.function.Function)
+     */
+    @Override
+    public R computeIfAbsent(Object key, Function<Object, R> fn) throws Throwable {
+        Object masked = key == null ? NULL : key;
+        Loader loader = new Loader(
+                                   masked, fn);
+        try {
+            return cache.computeIfAbsent(key, loader);
+        } finally {
+            if (loader.latch != null)
+                inFlight.remove(masked, loader.latch);
+        }
+    }
+
+    /**
+     * @return Number of times the wrapped function was called to compute a value
+     */
+    public long loadCount() {
+        return loads.sum();
+    }
+
+    /**
+     * @return Number of misses that waited for an in-flight load of the same key instead of computing the value
+     */
+    public long coalescedCount() {
+        return coalesced.sum();
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return "SingleFlightCacheable[loads=" + loadCount() + ", coalesced=" + coalescedCount() + ", " + cache + "]";
+    }
+
+    private static final class Latch<R> {
+        private final Thread owner = Thread.currentThread();
+        private final CompletableFuture<R> result = new CompletableFuture<>();
+    }
+
+    private final class Loader implements Function<Object, R> {
+        private final Object masked;
+        private final Function<Object, R> fn;
+        private Latch<R> latch;
+
+        Loader(Object masked, Function<Object, R> fn) {
+            this.masked = masked;
+            this.fn = fn;
+        }
+
+        @Override
+        public R apply(Object key) {
+            Latch<R> created = new Latch<>();
+            Latch<R> existing = inFlight.putIfAbsent(masked, created);
+            if (existing != null)
+                return await(existing);
+            latch = created;
+            loads.increment();
+            try {
+                R value = fn.apply(key);
+                created.result.complete(value);
+                return value;
+            } catch (Throwable t) {
+                created.result.completeExceptionally(t);
+                throw ExceptionSoftener.throwSoftenedException(t);
+            }
+        }
+
+        private R await(Latch<R> existing) {
+            if (existing.owner == Thread.currentThread())
+                throw new IllegalStateException(
+                                                "Recursive load of key " + masked);
+            coalesced.increment();
+            try {
+                return existing.result.join();
+            } catch (CompletionException e) {
+                throw ExceptionSoftener.throwSoftenedException(e.getCause());
+            }
+        }
+    }
+}
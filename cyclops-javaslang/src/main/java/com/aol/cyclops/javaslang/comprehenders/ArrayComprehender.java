@@ -1,6 +1,5 @@
 package com.aol.cyclops.javaslang.comprehenders;
 
-import java.util.Collection;
 import java.util.Iterator;
 import java.util.function.Function;
 import java.util.stream.BaseStream;
@@ -23,7 +22,7 @@ public class ArrayComprehender implements Comprehender<Array> {
 
     @Override
     public Object flatMap(Array t, Function fn) {
-        return t.flatMap(s -> fn.apply(s));
+        return Array.of(Traversables.flatten(t, fn));
     }
 
     @Override
@@ -44,17 +43,15 @@ public class ArrayComprehender implements Comprehender<Array> {
     static Array unwrapOtherMonadTypes(Comprehender<Array> comp, Object apply) {
         if (comp.instanceOfT(apply))
             return (Array) apply;
+        Object[] sized = Traversables.toArray(apply);
+        if (sized != null)
+            return Array.of(sized);
         if (apply instanceof java.util.stream.Stream)
-            return Array.of(((java.util.stream.Stream) apply));
+            return Array.ofAll(() -> ((java.util.stream.Stream) apply).iterator());
         if (apply instanceof Iterable)
-            return Array.of(((Iterable) apply));
-
-        if (apply instanceof Collection) {
-            return Array.ofAll((Collection) apply);
-        }
-        final Object finalApply = apply;
+            return Array.ofAll((Iterable) apply);
         if (apply instanceof BaseStream) {
-            return Array.ofAll(() -> ((BaseStream) finalApply).iterator());
+            return Array.ofAll(() -> ((BaseStream) apply).iterator());
 
         }
         return Comprehender.unwrapOtherMonadTypes(comp, apply);
@@ -63,7 +60,7 @@ public class ArrayComprehender implements Comprehender<Array> {
 
     @Override
     public Object resolveForCrossTypeFlatMap(Comprehender comp, Array apply) {
-        return comp.fromIterator(apply.iterator());
+        return Traversables.resolveForCrossTypeFlatMap(comp, apply);
     }
 
     @Override
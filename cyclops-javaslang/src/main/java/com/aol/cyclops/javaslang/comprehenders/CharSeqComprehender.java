@@ -63,7 +63,7 @@ public class CharSeqComprehender implements Comprehender<CharSeq> {
 
     @Override
     public Object resolveForCrossTypeFlatMap(Comprehender comp, CharSeq apply) {
-        return comp.fromIterator(apply.iterator());
+        return Traversables.resolveForCrossTypeFlatMap(comp, apply);
     }
 
     @Override
@@ -25,7 +25,10 @@ public class EitherComprehender implements ValueComprehender<Either> {
     @Override
     public Object flatMap(Either t, Function fn) {
         return t.right()
-                .flatMap(e -> fn.apply(e));
+                .flatMap(e -> {
+                    Object result = fn.apply(e);
+                    return result instanceof Either ? ((Either) result).right() : result;
+                });
     }
 
     @Override
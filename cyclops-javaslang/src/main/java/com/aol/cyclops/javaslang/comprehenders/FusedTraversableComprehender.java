@@ -0,0 +1,72 @@
+package com.aol.cyclops.javaslang.comprehenders;
+
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.BaseStream;
+
+import com.aol.cyclops.javaslang.FusedTraversable;
+import com.aol.cyclops.types.extensability.Comprehender;
+
+import javaslang.collection.Stream;
+import javaslang.collection.Traversable;
+import javaslang.collection.Vector;
+
+/**
+ * Comprehender for FusedTraversable, map / filter / flatMap record a stage rather than building a new collection
+ */
+public class FusedTraversableComprehender implements Comprehender<FusedTraversable> {
+
+    @Override
+    public Object filter(FusedTraversable t, Predicate p) {
+        return t.filter(p);
+    }
+
+    @Override
+    public Object map(FusedTraversable t, Function fn) {
+        return t.map(fn);
+    }
+
+    @Override
+    public Object executeflatMap(FusedTraversable t, Function fn) {
+        return flatMap(t, input -> unwrapOtherMonadTypes(this, fn.apply(input)));
+    }
+
+    @Override
+    public Object flatMap(FusedTraversable t, Function fn) {
+        return t.flatMap(fn);
+    }
+
+    @Override
+    public FusedTraversable of(Object o) {
+        return FusedTraversable.of(Vector.of(o));
+    }
+
+    @Override
+    public FusedTraversable empty() {
+        return FusedTraversable.of(Vector.empty());
+    }
+
+    @Override
+    public Class getTargetClass() {
+        return FusedTraversable.class;
+    }
+
+    @Override
+    public Object resolveForCrossTypeFlatMap(Comprehender comp, FusedTraversable apply) {
+        return comp.fromIterator(apply.iterator());
+    }
+
+    static Iterable unwrapOtherMonadTypes(Comprehender<FusedTraversable> comp, Object apply) {
+        if (apply instanceof Iterable)
+            return (Iterable) apply;
+        if (apply instanceof BaseStream)
+            return Stream.ofAll(() -> ((BaseStream) apply).iterator());
+        return (Iterable) Comprehender.unwrapOtherMonadTypes(comp, apply);
+    }
+
+    @Override
+    public FusedTraversable fromIterator(Iterator o) {
+        return FusedTraversable.of((Traversable) Stream.ofAll(() -> o));
+    }
+}
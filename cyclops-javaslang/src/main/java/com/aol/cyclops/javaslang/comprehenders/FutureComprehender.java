@@ -1,8 +1,14 @@
 package com.aol.cyclops.javaslang.comprehenders;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.BaseStream;
 
+import com.aol.cyclops.control.Eval;
+import com.aol.cyclops.control.FutureW;
+import com.aol.cyclops.control.ReactiveSeq;
+import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.types.extensability.Comprehender;
 import com.aol.cyclops.types.extensability.ValueComprehender;
 
@@ -28,12 +34,12 @@ public class FutureComprehender implements ValueComprehender<Future> {
 
     @Override
     public Future of(Object o) {
-        return Future.of(() -> o);
+        return Future.successful(o);
     }
 
     @Override
     public Future empty() {
-        return Future.of(() -> Option.none());
+        return Future.successful(Option.none());
     }
 
     @Override
@@ -41,8 +47,42 @@ public class FutureComprehender implements ValueComprehender<Future> {
         return Future.class;
     }
 
+    /**
+     * Convert a Future into the type managed by the target Comprehender.
+     *
+     * Asynchronous targets (CompletableFuture, FutureW, Future) are completed by the Future without blocking the calling
+     * thread, lazy targets (Eval, Stream) only wait for the Future when their value is requested. Strictly synchronous
+     * targets block until the Future completes.
+     */
     public Object resolveForCrossTypeFlatMap(Comprehender comp, Future apply) {
-        return comp.of(apply.get());
+        Class target = comp.getTargetClass();
+        if (target != null) {
+            if (Future.class.isAssignableFrom(target))
+                return apply;
+            if (CompletableFuture.class.isAssignableFrom(target))
+                return toCompletableFuture(apply);
+            if (FutureW.class.isAssignableFrom(target))
+                return FutureW.of(toCompletableFuture(apply));
+            if (Eval.class.isAssignableFrom(target))
+                return Eval.later(() -> apply.get());
+            if (BaseStream.class.isAssignableFrom(target))
+                return ReactiveSeq.of(apply)
+                                  .flatMapIterable(f -> (Future) f);
+        }
+        Xor<Throwable, ?> res = FutureW.of(toCompletableFuture(apply))
+                                       .toXor();
+        return res.isPrimary() ? comp.of(res.get()) : comp.empty();
+    }
+
+    static <T> CompletableFuture<T> toCompletableFuture(Future<T> future) {
+        CompletableFuture<T> completable = new CompletableFuture<>();
+        future.onComplete(result -> {
+            if (result.isSuccess())
+                completable.complete(result.get());
+            else
+                completable.completeExceptionally(result.getCause());
+        });
+        return completable;
     }
 
 }
@@ -64,7 +64,7 @@ public class HashSetComprehender implements Comprehender<HashSet> {
 
     @Override
     public Object resolveForCrossTypeFlatMap(Comprehender comp, HashSet apply) {
-        return comp.fromIterator(apply.iterator());
+        return Traversables.resolveForCrossTypeFlatMap(comp, apply);
     }
 
     @Override
@@ -1,6 +1,5 @@
 package com.aol.cyclops.javaslang.comprehenders;
 
-import java.util.Collection;
 import java.util.Iterator;
 import java.util.function.Function;
 import java.util.stream.BaseStream;
@@ -24,7 +23,7 @@ public class ListComprehender implements Comprehender<List> {
 
     @Override
     public Object flatMap(List t, Function fn) {
-        return t.flatMap(s -> fn.apply(s));
+        return List.of(Traversables.flatten(t, fn));
     }
 
     @Override
@@ -45,17 +44,15 @@ public class ListComprehender implements Comprehender<List> {
     static List unwrapOtherMonadTypes(Comprehender<List> comp, Object apply) {
         if (comp.instanceOfT(apply))
             return (List) apply;
+        Object[] sized = Traversables.toArray(apply);
+        if (sized != null)
+            return List.of(sized);
         if (apply instanceof java.util.stream.Stream)
-            return List.of(((java.util.stream.Stream) apply).iterator());
+            return List.ofAll(() -> ((java.util.stream.Stream) apply).iterator());
         if (apply instanceof Iterable)
-            return List.ofAll(((Iterable) apply));
-
-        if (apply instanceof Collection) {
-            return List.ofAll((Collection) apply);
-        }
-        final Object finalApply = apply;
+            return List.ofAll((Iterable) apply);
         if (apply instanceof BaseStream) {
-            return List.ofAll(() -> ((BaseStream) finalApply).iterator());
+            return List.ofAll(() -> ((BaseStream) apply).iterator());
 
         }
         return Comprehender.unwrapOtherMonadTypes(comp, apply);
@@ -64,7 +61,7 @@ public class ListComprehender implements Comprehender<List> {
 
     @Override
     public Object resolveForCrossTypeFlatMap(Comprehender comp, List apply) {
-        return comp.fromIterator(apply.iterator());
+        return Traversables.resolveForCrossTypeFlatMap(comp, apply);
     }
 
     @Override
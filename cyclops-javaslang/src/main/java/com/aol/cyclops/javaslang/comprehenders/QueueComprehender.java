@@ -40,6 +40,11 @@ public class QueueComprehender implements Comprehender<Queue> {
         return Queue.class;
     }
 
+    @Override
+    public Object resolveForCrossTypeFlatMap(Comprehender comp, Queue apply) {
+        return Traversables.resolveForCrossTypeFlatMap(comp, apply);
+    }
+
     static Queue unwrapOtherMonadTypes(Comprehender<Queue> comp, Object apply) {
         if (apply instanceof java.util.stream.Stream)
             return Queue.of(((java.util.stream.Stream) apply).iterator());
@@ -1,6 +1,5 @@
 package com.aol.cyclops.javaslang.comprehenders;
 
-import java.util.Collection;
 import java.util.Iterator;
 import java.util.function.Function;
 import java.util.stream.BaseStream;
@@ -45,24 +44,16 @@ public class StreamComprehender implements Comprehender<Stream> {
 
     @Override
     public Object resolveForCrossTypeFlatMap(Comprehender comp, Stream apply) {
-        return comp.fromIterator(apply.iterator());
+        return Traversables.resolveForCrossTypeFlatMap(comp, apply);
     }
 
     static Stream unwrapOtherMonadTypes(Comprehender<Stream> comp, final Object apply) {
         if (comp.instanceOfT(apply))
             return (Stream) apply;
-        if (apply instanceof java.util.stream.Stream)
-            return Stream.ofAll(() -> ((java.util.stream.Stream) apply).iterator());
         if (apply instanceof Iterable)
             return Stream.ofAll(((Iterable) apply));
-
-        if (apply instanceof Collection) {
-            return Stream.ofAll((Collection) apply);
-        }
-        if (apply instanceof BaseStream) {
-            return Stream.ofAll(() -> ((BaseStream) apply).iterator());
-
-        }
+        if (apply instanceof BaseStream)
+            return Traversables.stream(((BaseStream) apply).spliterator());
 
         return Comprehender.unwrapOtherMonadTypes(comp, apply);
 
@@ -70,6 +61,6 @@ public class StreamComprehender implements Comprehender<Stream> {
 
     @Override
     public Stream fromIterator(Iterator o) {
-        return Stream.ofAll(() -> o);
+        return Traversables.stream(o);
     }
 }
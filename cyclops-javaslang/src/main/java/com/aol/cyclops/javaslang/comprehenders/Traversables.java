@@ -0,0 +1,201 @@
+package com.aol.cyclops.javaslang.comprehenders;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.BaseStream;
+import java.util.stream.StreamSupport;
+
+import com.aol.cyclops.types.extensability.Comprehender;
+
+import javaslang.collection.IndexedSeq;
+import javaslang.collection.Set;
+import javaslang.collection.Stream;
+import javaslang.collection.Traversable;
+
+/**
+ * Lazy, single pass conversion of javaslang Traversables for cross type flatMap resolution
+ *
+ * javaslang Streams are traversed via a cursor that holds only the current cell, and only evaluates the next cell when
+ * the next element is requested, so flatMapping large or infinite Streams into other types neither forces extra
+ * elements nor retains the traversed prefix (provided the caller does not itself hold the head of the Stream).
+ * IndexedSeqs are reported with a SIZED spliterator, other Traversables (whose length may take a full traversal to
+ * compute) with an unknown size.
+ *
+ * javaslang Streams built from other sources (JDK Streams and Iterators) are constructed one cell at a time, each cell
+ * pulls exactly one element from the source when it is evaluated, so no element is read ahead of the cell that holds
+ * it.
+ *
+ * Also provides size aware bulk copies used by the Seq comprehenders to build their results from presized arrays,
+ * rather than by repeated persistent appends.
+ */
+final class Traversables {
+
+    private Traversables() {
+    }
+
+    /**
+     * Resolve a Traversable into the type managed by comp. JDK Stream targets receive a Stream built directly from a
+     * spliterator, other targets are handed a lazy Iterator.
+     */
+    static Object resolveForCrossTypeFlatMap(Comprehender comp, Traversable<?> apply) {
+        Class target = comp.getTargetClass();
+        if (target != null && BaseStream.class.isAssignableFrom(target)
+                && target.isAssignableFrom(java.util.stream.Stream.class))
+            return StreamSupport.stream(spliterator(apply), false);
+        return comp.fromIterator(iterator(apply));
+    }
+
+    static <T> Spliterator<T> spliterator(Traversable<T> traversable) {
+        if (traversable instanceof Stream)
+            return new StreamSpliterator<>(
+                                           (Stream<T>) traversable);
+        int characteristics = traversable instanceof Set ? 0 : Spliterator.ORDERED;
+        if (traversable instanceof IndexedSeq)
+            return Spliterators.spliterator(traversable.iterator(), traversable.length(), characteristics);
+        return Spliterators.spliteratorUnknownSize(traversable.iterator(), characteristics);
+    }
+
+    /**
+     * Copy a source whose size is known in constant time (a java.util.Collection or a javaslang IndexedSeq) into a
+     * presized array.
+     *
+     * @return the elements of apply, or null if its size is not cheaply known
+     */
+    static Object[] toArray(Object apply) {
+        if (apply instanceof Collection)
+            return ((Collection) apply).toArray();
+        if (apply instanceof IndexedSeq) {
+            IndexedSeq<?> seq = (IndexedSeq<?>) apply;
+            Object[] array = new Object[seq.length()];
+            int index = 0;
+            for (Object next : seq)
+                array[index++] = next;
+            return array;
+        }
+        return null;
+    }
+
+    /**
+     * Apply fn to each element of t and concatenate the Iterable results into a single builder, presized from the
+     * length of t and of each result where known.
+     */
+    static Object[] flatten(Traversable<?> t, Function fn) {
+        ArrayList<Object> builder = new ArrayList<>(
+                                                    t instanceof IndexedSeq ? t.length() : 10);
+        for (Object next : t) {
+            Object result = fn.apply(next);
+            if (result instanceof Collection) {
+                builder.addAll((Collection) result);
+                continue;
+            }
+            if (result instanceof IndexedSeq)
+                builder.ensureCapacity(builder.size() + ((IndexedSeq) result).length());
+            for (Object element : (Iterable) result)
+                builder.add(element);
+        }
+        return builder.toArray();
+    }
+
+    static <T> Iterator<T> iterator(Traversable<T> traversable) {
+        if (traversable instanceof Stream)
+            return new StreamIterator<>(
+                                        (Stream<T>) traversable);
+        return traversable.iterator();
+    }
+
+    /**
+     * Lazily build a javaslang Stream from a spliterator, pulling one element per evaluated cell
+     */
+    static <T> Stream<T> stream(Spliterator<? extends T> spliterator) {
+        Object[] next = new Object[1];
+        if (!spliterator.tryAdvance(e -> next[0] = e))
+            return Stream.empty();
+        return Stream.cons((T) next[0], () -> stream(spliterator));
+    }
+
+    /**
+     * Lazily build a javaslang Stream from an iterator, pulling one element per evaluated cell
+     */
+    static <T> Stream<T> stream(Iterator<? extends T> iterator) {
+        return stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED));
+    }
+
+    /**
+     * Iterator over a javaslang Stream that does not buffer elements, the tail of the current cell is only evaluated
+     * when the following element is requested
+     */
+    static final class StreamIterator<T> implements Iterator<T> {
+        private Stream<T> current;
+        private boolean consumed;
+
+        StreamIterator(Stream<T> stream) {
+            this.current = stream;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (consumed) {
+                current = current.tail();
+                consumed = false;
+            }
+            return !current.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+            consumed = true;
+            return current.head();
+        }
+    }
+
+    /**
+     * Spliterator over a javaslang Stream, advances to the tail of the current cell only when the next element is
+     * requested
+     */
+    static final class StreamSpliterator<T> implements Spliterator<T> {
+        private Stream<T> current;
+        private boolean consumed;
+
+        StreamSpliterator(Stream<T> stream) {
+            this.current = stream;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (current == null)
+                return false;
+            if (consumed)
+                current = current.tail();
+            if (current.isEmpty()) {
+                current = null;
+                return false;
+            }
+            consumed = true;
+            action.accept(current.head());
+            return true;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            return null;
+        }
+
+        @Override
+        public long estimateSize() {
+            return Long.MAX_VALUE;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED;
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package com.aol.cyclops.javaslang.comprehenders;
 
-import java.util.Collection;
 import java.util.Iterator;
 import java.util.function.Function;
 import java.util.stream.BaseStream;
@@ -23,7 +22,7 @@ public class VectorComprehender implements Comprehender<Vector> {
 
     @Override
     public Object flatMap(Vector t, Function fn) {
-        return t.flatMap(s -> fn.apply(s));
+        return Vector.of(Traversables.flatten(t, fn));
     }
 
     @Override
@@ -43,23 +42,21 @@ public class VectorComprehender implements Comprehender<Vector> {
 
     @Override
     public Object resolveForCrossTypeFlatMap(Comprehender comp, Vector apply) {
-        return comp.fromIterator(apply.iterator());
+        return Traversables.resolveForCrossTypeFlatMap(comp, apply);
     }
 
     static Vector unwrapOtherMonadTypes(Comprehender<Vector> comp, Object apply) {
         if (comp.instanceOfT(apply))
             return (Vector) apply;
+        Object[] sized = Traversables.toArray(apply);
+        if (sized != null)
+            return Vector.of(sized);
         if (apply instanceof java.util.stream.Stream)
-            return Vector.of(((java.util.stream.Stream) apply).iterator());
+            return Vector.ofAll(() -> ((java.util.stream.Stream) apply).iterator());
         if (apply instanceof Iterable)
-            return Vector.of((Iterable) apply);
-
-        if (apply instanceof Collection) {
-            return Vector.ofAll((Collection) apply);
-        }
-        final Object finalApply = apply;
+            return Vector.ofAll((Iterable) apply);
         if (apply instanceof BaseStream) {
-            return Vector.ofAll(() -> ((BaseStream) finalApply).iterator());
+            return Vector.ofAll(() -> ((BaseStream) apply).iterator());
 
         }
         return Comprehender.unwrapOtherMonadTypes(comp, apply);
@@ -2,19 +2,30 @@ package com.aol.cyclops.javaslang;
 
 import static com.aol.cyclops.javaslang.Javaslang.traversable;
 import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 
 import java.util.Arrays;
 import java.util.concurrent.Executors;
+import java.util.function.Function;
 
 import org.junit.Test;
 
 import com.aol.cyclops.control.AnyM;
+import com.aol.cyclops.control.Eval;
+import com.aol.cyclops.control.FutureW;
 import com.aol.cyclops.control.LazyReact;
 import com.aol.cyclops.control.ReactiveSeq;
 import com.aol.cyclops.data.collections.extensions.standard.ListX;
 import com.aol.cyclops.data.collections.extensions.standard.SortedSetX;
+import com.aol.cyclops.javaslang.comprehenders.ArrayComprehender;
+import com.aol.cyclops.javaslang.comprehenders.FutureComprehender;
+import com.aol.cyclops.javaslang.comprehenders.ListComprehender;
+import com.aol.cyclops.javaslang.comprehenders.StreamComprehender;
+import com.aol.cyclops.javaslang.comprehenders.VectorComprehender;
 import com.aol.cyclops.types.Functor;
+import com.aol.cyclops.types.extensability.Comprehender;
+import com.aol.cyclops.types.anyM.AnyMSeq;
 import com.aol.cyclops.types.stream.reactive.SeqSubscriber;
 
 import javaslang.Lazy;
@@ -24,8 +35,10 @@ import javaslang.collection.HashSet;
 import javaslang.collection.List;
 import javaslang.collection.Queue;
 import javaslang.collection.Stream;
+import javaslang.collection.TreeSet;
 import javaslang.collection.Vector;
 import javaslang.concurrent.Future;
+import javaslang.concurrent.Promise;
 import javaslang.control.Either;
 import javaslang.control.Option;
 import javaslang.control.Try;
@@ -209,6 +222,15 @@ public class AnyJavaslangMTest {
                    equalTo(Arrays.asList("HELLO WORLD")));
     }
 
+    @Test
+    public void eitherFlatMapEitherTest() {
+        assertThat(Javaslang.either(Either.<Object, String> right("hello world"))
+                            .flatMap(s -> Javaslang.either(Either.right(s.toUpperCase())))
+                            .toSequence()
+                            .toList(),
+                   equalTo(Arrays.asList("HELLO WORLD")));
+    }
+
     @Test
     public void rightProjectionTest() {
         assertThat(Javaslang.right(Either.<Object, String> right("hello world")
@@ -318,6 +340,36 @@ public class AnyJavaslangMTest {
                    equalTo(Arrays.asList("HELLO WORLD")));
     }
 
+    @Test
+    public void futureOfIsCompleted() {
+        Future<String> result = Javaslang.value(Future.of(() -> "hello"))
+                                         .flatMap(s -> Javaslang.value(Future.successful(s))
+                                                                .map(String::toUpperCase))
+                                         .unwrap();
+        assertThat(result.get(), equalTo("HELLO"));
+        assertThat(new FutureComprehender().of("hello")
+                                           .isCompleted(),
+                   equalTo(true));
+    }
+
+    @Test
+    public void futureIntoFutureWDoesNotBlock() {
+        FutureW<Integer> result = AnyM.fromFutureW(FutureW.ofResult(10))
+                                      .<Integer> bind(a -> Promise.<Integer> make()
+                                                                  .future())
+                                      .unwrap();
+        assertFalse(result.getFuture()
+                          .isDone());
+    }
+
+    @Test
+    public void futureIntoEval() {
+        Eval<Integer> result = AnyM.fromEval(Eval.now(10))
+                                   .<Integer> bind(a -> Future.successful(a + 10))
+                                   .unwrap();
+        assertThat(result.get(), equalTo(20));
+    }
+
     @Test
     public void lazyTest() {
         assertThat(Javaslang.value(Lazy.of(() -> "hello world"))
@@ -363,6 +415,186 @@ public class AnyJavaslangMTest {
                    equalTo(Arrays.asList("HELLO WORLD")));
     }
 
+    @Test
+    public void streamResolveInfiniteIsLazy() {
+        int[] evaluated = { 0 };
+        Stream<Integer> infinite = countFrom(10, evaluated);
+        StreamComprehender comp = new StreamComprehender();
+        Stream<Integer> resolved = (Stream<Integer>) comp.resolveForCrossTypeFlatMap(comp, infinite);
+        assertThat(resolved.get(2), equalTo(12));
+        assertThat(evaluated[0], equalTo(2));
+    }
+
+    private static Stream<Integer> countFrom(int start, int[] evaluated) {
+        return Stream.cons(start, () -> {
+            evaluated[0]++;
+            return countFrom(start + 1, evaluated);
+        });
+    }
+
+    @Test
+    public void streamFlatMapInfiniteJDKStreamIsLazy() {
+        int[] evaluated = { 0 };
+        StreamComprehender comp = new StreamComprehender();
+        Stream<Integer> flattened = (Stream<Integer>) comp.executeflatMap(Stream.of(1),
+                                                                          i -> java.util.stream.Stream.iterate(10, a -> {
+                                                                              evaluated[0]++;
+                                                                              return a + 1;
+                                                                          }));
+        assertThat(flattened.get(2), equalTo(12));
+        assertThat(evaluated[0], equalTo(2));
+    }
+
+    @Test
+    public void resolveWithoutTargetClass() {
+        Comprehender<Stream> noTarget = new StreamComprehender() {
+            @Override
+            public Class getTargetClass() {
+                return null;
+            }
+        };
+        Stream<Integer> resolved = (Stream<Integer>) new ListComprehender().resolveForCrossTypeFlatMap(noTarget,
+                                                                                                      List.of(1, 2, 3));
+        assertThat(resolved.toJavaList(), equalTo(Arrays.asList(1, 2, 3)));
+    }
+
+    @Test
+    public void sizedFlatMapJDK() {
+        assertThat(AnyM.fromStream(java.util.stream.Stream.of(1, 2))
+                       .flatMap(i -> Javaslang.traversable(Vector.of(i, i * 10)))
+                       .toList(),
+                   equalTo(Arrays.asList(1, 10, 2, 20)));
+        assertThat(AnyM.fromStream(java.util.stream.Stream.of(1, 2))
+                       .flatMap(i -> Javaslang.traversable(Queue.of(i, i * 10)))
+                       .toList(),
+                   equalTo(Arrays.asList(1, 10, 2, 20)));
+    }
+
+    @Test
+    public void vectorFlatMapSized() {
+        assertThat(Javaslang.traversable(Vector.of(1, 2, 3))
+                            .flatMap(i -> Javaslang.traversable(Vector.of(i, i * 10)))
+                            .toList(),
+                   equalTo(Arrays.asList(1, 10, 2, 20, 3, 30)));
+        assertThat(Javaslang.traversable(Array.of(1, 2))
+                            .flatMap(i -> Javaslang.traversable(Vector.of(i, i * 10)))
+                            .toList(),
+                   equalTo(Arrays.asList(1, 10, 2, 20)));
+        assertThat(Javaslang.traversable(List.of(1, 2))
+                            .flatMap(i -> Javaslang.traversable(Array.of(i, i * 10)))
+                            .toList(),
+                   equalTo(Arrays.asList(1, 10, 2, 20)));
+    }
+
+    @Test
+    public void vectorFlatMapIterableAndStreamResults() {
+        VectorComprehender comp = new VectorComprehender();
+        Function<Integer, List<Integer>> linear = i -> List.of(i, i * 10);
+        Function<Integer, Iterable<Integer>> iterable = i -> () -> Arrays.asList(i, i * 10)
+                                                                         .iterator();
+        Function<Integer, java.util.stream.Stream<Integer>> stream = i -> java.util.stream.Stream.of(i, i * 10);
+        assertThat((Vector<Integer>) comp.executeflatMap(Vector.of(1, 2), linear), equalTo(Vector.of(1, 10, 2, 20)));
+        assertThat((Vector<Integer>) comp.executeflatMap(Vector.of(1, 2), iterable), equalTo(Vector.of(1, 10, 2, 20)));
+        assertThat((Vector<Integer>) comp.executeflatMap(Vector.of(1, 2), stream), equalTo(Vector.of(1, 10, 2, 20)));
+    }
+
+    @Test
+    public void arrayFlatMapIterableAndStreamResults() {
+        ArrayComprehender comp = new ArrayComprehender();
+        Function<Integer, List<Integer>> linear = i -> List.of(i, i * 10);
+        Function<Integer, Iterable<Integer>> iterable = i -> () -> Arrays.asList(i, i * 10)
+                                                                         .iterator();
+        Function<Integer, java.util.stream.Stream<Integer>> stream = i -> java.util.stream.Stream.of(i, i * 10);
+        assertThat((Array<Integer>) comp.executeflatMap(Array.of(1, 2), linear), equalTo(Array.of(1, 10, 2, 20)));
+        assertThat((Array<Integer>) comp.executeflatMap(Array.of(1, 2), iterable), equalTo(Array.of(1, 10, 2, 20)));
+        assertThat((Array<Integer>) comp.executeflatMap(Array.of(1, 2), stream), equalTo(Array.of(1, 10, 2, 20)));
+    }
+
+    @Test
+    public void fusedPipeline() {
+        AnyMSeq<String> pipeline = Javaslang.fused(Vector.of(1, 2, 3, 4))
+                                            .map(i -> i * 10)
+                                            .filter(i -> i > 10)
+                                            .flatMap(i -> Javaslang.traversable(List.of(i, i + 1)))
+                                            .map(i -> "" + i);
+        assertThat(pipeline.toList(), equalTo(Arrays.asList("20", "21", "30", "31", "40", "41")));
+        Vector<String> result = pipeline.<FusedTraversable<String>> unwrap()
+                                        .materialize();
+        assertThat(result, equalTo(Vector.of("20", "21", "30", "31", "40", "41")));
+        List<Integer> list = Javaslang.fused(List.of(1, 2))
+                                      .map(i -> i + 1)
+                                      .<FusedTraversable<Integer>> unwrap()
+                                      .materialize();
+        assertThat(list, equalTo(List.of(2, 3)));
+    }
+
+    @Test
+    public void fusedKeepsSetSemantics() {
+        HashSet<Integer> set = Javaslang.fused(HashSet.of(1, 2, 3, 4))
+                                        .map(i -> i % 2)
+                                        .<FusedTraversable<Integer>> unwrap()
+                                        .materialize();
+        assertThat(set, equalTo(HashSet.of(0, 1)));
+    }
+
+    @Test
+    public void fusedInfiniteStream() {
+        Stream<Integer> stream = Javaslang.fused(Stream.iterate(1, i -> i + 1))
+                                          .map(i -> i * 10)
+                                          .filter(i -> i % 20 == 0)
+                                          .<FusedTraversable<Integer>> unwrap()
+                                          .materialize();
+        assertThat(stream.take(3), equalTo(Stream.of(20, 40, 60)));
+    }
+
+    @Test
+    public void fusedOtherSourcesMaterialiseToVector() {
+        Vector<Integer> vector = Javaslang.fused(TreeSet.of(3, 1, 2))
+                                          .map(i -> i + 1)
+                                          .<FusedTraversable<Integer>> unwrap()
+                                          .materialize();
+        assertThat(vector, equalTo(Vector.of(2, 3, 4)));
+    }
+
+    @Test
+    public void indexedVector() {
+        AnyMSeq<Integer> seq = Javaslang.traversable(Vector.range(0, 100_000));
+        assertThat(Javaslang.Indexed.size(seq), equalTo(100_000L));
+        assertThat(Javaslang.Indexed.get(seq, 99_999)
+                                    .get(),
+                   equalTo(99_999));
+        assertFalse(Javaslang.Indexed.get(seq, 100_000)
+                                     .isPresent());
+        assertThat(Javaslang.Indexed.takeRight(seq, 2)
+                                    .unwrap(),
+                   equalTo(Vector.of(99_998, 99_999)));
+        assertThat(Javaslang.Indexed.skipLast(seq, 99_998)
+                                    .toList(),
+                   equalTo(Arrays.asList(0, 1)));
+        assertThat(Javaslang.Indexed.slice(seq, 10, 13)
+                                    .toList(),
+                   equalTo(Arrays.asList(10, 11, 12)));
+        assertThat(Javaslang.Indexed.reverse(Javaslang.traversable(Array.of(1, 2, 3)))
+                                    .toList(),
+                   equalTo(Arrays.asList(3, 2, 1)));
+    }
+
+    @Test
+    public void indexedFallback() {
+        AnyMSeq<Integer> seq = Javaslang.traversable(List.of(1, 2, 3));
+        assertThat(Javaslang.Indexed.size(seq), equalTo(3L));
+        assertThat(Javaslang.Indexed.takeRight(seq, 2)
+                                    .toList(),
+                   equalTo(Arrays.asList(2, 3)));
+    }
+
+    @Test
+    public void indexedSizeOfSets() {
+        assertThat(Javaslang.Indexed.size(Javaslang.traversable(HashSet.of(1, 2, 3))), equalTo(3L));
+        assertThat(Javaslang.Indexed.size(Javaslang.traversable(TreeSet.of(1, 2, 3))), equalTo(3L));
+        assertThat(Javaslang.Indexed.size(Javaslang.traversable(Queue.of(1, 2, 3))), equalTo(3L));
+    }
+
     @Test
     public void arrayTest() {
         assertThat(Javaslang.traversable(Array.of("hello world"))
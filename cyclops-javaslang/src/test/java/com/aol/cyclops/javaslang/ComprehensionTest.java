@@ -5,6 +5,9 @@ import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Supplier;
 
 import org.jooq.lambda.tuple.Tuple;
@@ -15,6 +18,8 @@ import com.aol.cyclops.types.Traversable;
 
 import javaslang.collection.List;
 import javaslang.collection.Stream;
+import javaslang.collection.Vector;
+import javaslang.concurrent.Future;
 import javaslang.control.Option;
 
 public class ComprehensionTest {
@@ -33,6 +38,35 @@ public class ComprehensionTest {
                    equalTo(40));
     }
 
+    @Test
+    public void futureOnExecutor() {
+        ExecutorService pool = Executors.newSingleThreadExecutor(r -> new Thread(r, "for-value-pool"));
+        try {
+            Future<String> result = (Future<String>) Javaslang.ForValue.each2(pool, Future.successful(10),
+                                                                             a -> Future.of(() -> a + 20),
+                                                                             (a, b) -> Thread.currentThread()
+                                                                                             .getName()
+                                                                                     + ":" + (a + b));
+            assertThat(result.get(), equalTo("for-value-pool:40"));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void parallelEach2() {
+        Vector<Integer> sequential = Vector.ofAll(Javaslang.ForTraversable.each2(List.range(0, 500),
+                                                                                 a -> List.range(0, a % 7),
+                                                                                 (a, b) -> a * b));
+        assertThat(Javaslang.ParallelForTraversable.each2(ForkJoinPool.commonPool(), List.range(0, 500),
+                                                          a -> List.range(0, a % 7), (a, b) -> a * b),
+                   equalTo(sequential));
+        assertThat(Javaslang.ParallelForTraversable.each2Unordered(ForkJoinPool.commonPool(), List.range(0, 500),
+                                                                   a -> List.range(0, a % 7), (a, b) -> a * b)
+                                                   .sorted(),
+                   equalTo(sequential.sorted()));
+    }
+
     @Test
     public void generate() {
 
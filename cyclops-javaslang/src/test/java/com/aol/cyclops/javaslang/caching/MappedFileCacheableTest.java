@@ -0,0 +1,149 @@
+package com.aol.cyclops.javaslang.caching;
+
+import static com.aol.cyclops.javaslang.caching.Memoize.memoizeFunction;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.function.Function;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.aol.cyclops.util.function.Cacheable;
+
+public class MappedFileCacheableTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    int called = 0;
+    Path file;
+
+    @Before
+    public void setup() throws IOException {
+        called = 0;
+        file = folder.newFile("memo.cache")
+                     .toPath();
+    }
+
+    @Test
+    public void testMemoiseFunction() throws IOException {
+        try (MappedFileCacheable<String> cache = Memoize.mappedCache(file, 4096, 100)) {
+            Function<Integer, String> s = memoizeFunction(a -> "value" + a + ++called, cache);
+            assertThat(s.apply(1), equalTo("value11"));
+            assertThat(s.apply(1), equalTo("value11"));
+            assertThat(s.apply(2), equalTo("value22"));
+            assertThat(called, equalTo(2));
+            assertThat(cache.size(), equalTo(2));
+        }
+    }
+
+    @Test
+    public void testWarmStart() throws IOException {
+        try (MappedFileCacheable<String> cache = Memoize.mappedCache(file, 4096, 100)) {
+            Function<Integer, String> s = memoizeFunction(a -> "value" + a + ++called, cache);
+            s.apply(1);
+            s.apply(2);
+        }
+        try (MappedFileCacheable<String> cache = Memoize.mappedCache(file, 4096, 100)) {
+            Function<Integer, String> s = memoizeFunction(a -> "value" + a + ++called, cache);
+            assertThat(cache.size(), equalTo(2));
+            assertThat(s.apply(1), equalTo("value11"));
+            assertThat(s.apply(2), equalTo("value22"));
+            assertThat(called, equalTo(2));
+        }
+    }
+
+    @Test
+    public void testCachesNull() throws IOException {
+        try (MappedFileCacheable<String> cache = Memoize.mappedCache(file, 4096, 100)) {
+            Function<Integer, String> s = memoizeFunction(a -> {
+                called++;
+                return null;
+            }, cache);
+            assertThat(s.apply(1), equalTo(null));
+            assertThat(s.apply(1), equalTo(null));
+            assertThat(called, equalTo(1));
+        }
+    }
+
+    @Test
+    public void testMaximumSize() throws IOException {
+        try (MappedFileCacheable<Integer> cache = Memoize.mappedCache(file, 4096, 2)) {
+            Function<Integer, Integer> s = memoizeFunction(a -> a + ++called, cache);
+            s.apply(0);
+            s.apply(1);
+            s.apply(0);
+            s.apply(2);
+            assertThat(cache.size(), equalTo(2));
+            assertThat(cache.evictionCount(), equalTo(1L));
+            assertThat(s.apply(0), equalTo(1));
+            assertThat(s.apply(1), equalTo(5));
+            assertThat(called, equalTo(4));
+        }
+    }
+
+    @Test
+    public void testEvictedEntriesStayEvictedOnReopen() throws IOException {
+        try (MappedFileCacheable<Integer> cache = Memoize.mappedCache(file, 4096, 2)) {
+            Function<Integer, Integer> s = memoizeFunction(a -> a + ++called, cache);
+            s.apply(0);
+            s.apply(1);
+            s.apply(2);
+            assertThat(cache.evictionCount(), equalTo(1L));
+            assertThat(called, equalTo(3));
+        }
+        called = 0;
+        try (MappedFileCacheable<Integer> cache = Memoize.mappedCache(file, 4096, 100)) {
+            Function<Integer, Integer> s = memoizeFunction(a -> a + ++called, cache);
+            assertThat(cache.size(), equalTo(2));
+            assertThat(cache.evictionCount(), equalTo(0L));
+            assertThat(s.apply(1), equalTo(3));
+            assertThat(s.apply(2), equalTo(5));
+            assertThat(called, equalTo(0));
+            assertThat(s.apply(0), equalTo(1));
+            assertThat(called, equalTo(1));
+        }
+    }
+
+    @Test
+    public void testCompactsWhenFull() throws IOException {
+        try (MappedFileCacheable<Integer> cache = Memoize.mappedCache(file, 2048, 1000)) {
+            Function<Integer, Integer> s = memoizeFunction(a -> a * 2, cache);
+            for (int i = 0; i < 1000; i++)
+                assertThat(s.apply(i), equalTo(i * 2));
+            assertThat(cache.size() < 1000, equalTo(true));
+            assertThat(cache.evictionCount(), equalTo(1000L - cache.size()));
+            assertThat(s.apply(999), equalTo(1998));
+        }
+        try (MappedFileCacheable<Integer> cache = Memoize.mappedCache(file, 2048, 1000)) {
+            Function<Integer, Integer> s = memoizeFunction(a -> {
+                called++;
+                return a * 2;
+            }, cache);
+            assertThat(s.apply(999), equalTo(1998));
+            assertThat(called, equalTo(0));
+        }
+    }
+
+    @Test
+    public void testTiered() throws IOException {
+        try (MappedFileCacheable<Integer> disk = Memoize.mappedCache(file, 4096, 100)) {
+            MemoizeCache<Integer> heap = Memoize.cache(CachePolicy.maximumSize(1));
+            Cacheable<Integer> tiered = Memoize.tiered(heap, disk);
+            Function<Integer, Integer> s = memoizeFunction(a -> a + ++called, tiered);
+            assertThat(s.apply(0), equalTo(1));
+            assertThat(s.apply(1), equalTo(3));
+            assertThat(s.apply(0), equalTo(1));
+            assertThat(called, equalTo(2));
+            assertThat(disk.size(), equalTo(2));
+            assertThat(heap.stats()
+                           .getMissCount(),
+                       equalTo(3L));
+        }
+    }
+}
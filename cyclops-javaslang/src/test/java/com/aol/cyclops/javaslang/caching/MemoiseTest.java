@@ -8,13 +8,38 @@ import static com.aol.cyclops.javaslang.caching.Memoize.memoizePredicate;
 import static com.aol.cyclops.javaslang.caching.Memoize.memoizeQuadFunction;
 import static org.hamcrest.Matchers.equalTo;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
 
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.DoubleFunction;
 import java.util.function.Function;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntFunction;
+import java.util.function.LongFunction;
 import java.util.function.Predicate;
 
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.Assume;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -24,6 +49,7 @@ import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 
 import javaslang.Function0;
+import javaslang.Function1;
 import javaslang.Function2;
 import lombok.val;
 
@@ -56,6 +82,83 @@ public class MemoiseTest {
         assertThat(s.call(), equalTo(1));
     }
 
+    @Test
+    public void testMemoiseSupplierCachesNull() {
+        Function0<Integer> s = memoizeFunction0(() -> {
+            called++;
+            return null;
+        });
+        assertThat(s.get(), equalTo(null));
+        assertThat(s.get(), equalTo(null));
+        assertThat(called, equalTo(1));
+    }
+
+    @Test
+    public void testMemoiseSupplierRetriesOnException() {
+        Function0<Integer> s = memoizeFunction0(() -> {
+            if (++called == 1)
+                throw new IllegalStateException();
+            return called;
+        });
+        try {
+            s.get();
+            fail("exception expected");
+        } catch (IllegalStateException e) {
+
+        }
+        assertThat(s.get(), equalTo(2));
+        assertThat(s.get(), equalTo(2));
+    }
+
+    @Test
+    public void testMemoiseCallableCachesException() throws Exception {
+        Callable<Integer> s = memoizeCallable(() -> {
+            called++;
+            throw new IOException();
+        }, true);
+        for (int i = 0; i < 3; i++) {
+            try {
+                s.call();
+                fail("exception expected");
+            } catch (IOException e) {
+
+            }
+        }
+        assertThat(called, equalTo(1));
+    }
+
+    @Test
+    public void testMemoiseCallableDoesNotCacheErrors() throws Exception {
+        Callable<Integer> s = memoizeCallable(() -> {
+            if (++called == 1)
+                throw new StackOverflowError();
+            return called;
+        }, true);
+        try {
+            s.call();
+            fail("error expected");
+        } catch (StackOverflowError e) {
+
+        }
+        assertThat(s.call(), equalTo(2));
+        assertThat(s.call(), equalTo(2));
+        assertThat(called, equalTo(2));
+    }
+
+    @Test
+    public void testMemoiseSupplierConcurrent() throws Exception {
+        AtomicInteger count = new AtomicInteger(0);
+        Function0<Integer> s = memoizeFunction0(() -> count.incrementAndGet());
+        ExecutorService exec = Executors.newFixedThreadPool(8);
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < 1000; i++)
+            results.add(exec.submit(() -> s.get()));
+        for (Future<Integer> next : results)
+            assertThat(next.get(), equalTo(1));
+        exec.shutdown();
+        assertThat(count.get(), equalTo(1));
+    }
+
     @Test
     public void testMemoiseFunction() {
         Function<Integer, Integer> s = memoizeFunction(a -> a + ++called);
@@ -99,6 +202,83 @@ public class MemoiseTest {
         assertThat(s.apply(1, 1), equalTo(3));
     }
 
+    @Test
+    public void testMemoiseFunctionMaximumSize() {
+        MemoizeCache<Integer> cache = Memoize.cache(CachePolicy.maximumSize(2));
+        Function<Integer, Integer> s = memoizeFunction(a -> a + ++called, cache);
+        assertThat(s.apply(0), equalTo(1));
+        assertThat(s.apply(1), equalTo(3));
+        assertThat(s.apply(0), equalTo(1));
+        assertThat(s.apply(2), equalTo(5));
+        assertThat(cache.size(), equalTo(2L));
+        assertThat(s.apply(0), equalTo(1));
+        assertThat(s.apply(1), equalTo(5));
+        assertThat(called, equalTo(4));
+        assertThat(cache.stats()
+                        .getEvictionCount(),
+                   equalTo(2L));
+    }
+
+    @Test
+    public void testMemoiseFunctionExpireAfterWrite() {
+        AtomicLong time = new AtomicLong();
+        MemoizeCache<Integer> cache = Memoize.cache(CachePolicy.unbounded()
+                                                               .expireAfterWrite(10, TimeUnit.SECONDS)
+                                                               .ticker(time::get));
+        Function<Integer, Integer> s = memoizeFunction(a -> a + ++called, cache);
+        assertThat(s.apply(0), equalTo(1));
+        time.set(TimeUnit.SECONDS.toNanos(9));
+        assertThat(s.apply(0), equalTo(1));
+        time.set(TimeUnit.SECONDS.toNanos(10));
+        assertThat(s.apply(0), equalTo(2));
+        assertThat(called, equalTo(2));
+    }
+
+    @Test
+    public void testMemoiseFunctionExpireAfterAccess() {
+        AtomicLong time = new AtomicLong();
+        MemoizeCache<Integer> cache = Memoize.cache(CachePolicy.unbounded()
+                                                               .expireAfterAccess(10, TimeUnit.SECONDS)
+                                                               .ticker(time::get));
+        Function<Integer, Integer> s = memoizeFunction(a -> a + ++called, cache);
+        assertThat(s.apply(0), equalTo(1));
+        time.set(TimeUnit.SECONDS.toNanos(9));
+        assertThat(s.apply(0), equalTo(1));
+        time.set(TimeUnit.SECONDS.toNanos(18));
+        assertThat(s.apply(0), equalTo(1));
+        time.set(TimeUnit.SECONDS.toNanos(30));
+        cache.cleanUp();
+        assertThat(cache.size(), equalTo(0L));
+        assertThat(s.apply(0), equalTo(2));
+    }
+
+    @Test
+    public void testMemoiseCacheStats() {
+        MemoizeCache<Integer> cache = Memoize.cache(CachePolicy.maximumSize(1000));
+        Function2<Integer, Integer, Integer> s = memoizeBiFunction((a, b) -> a + ++called, cache);
+        s.apply(0, 1);
+        s.apply(0, 1);
+        s.apply(0, 1);
+        s.apply(1, 1);
+        CacheStats stats = cache.stats();
+        assertThat(stats.getHitCount(), equalTo(2L));
+        assertThat(stats.getMissCount(), equalTo(2L));
+        assertThat(stats.getEvictionCount(), equalTo(0L));
+        assertThat(stats.hitRate(), equalTo(0.5));
+    }
+
+    @Test
+    public void testMemoiseFunctionLargeCacheIsBounded() {
+        MemoizeCache<Integer> cache = Memoize.cache(CachePolicy.maximumSize(1000));
+        Function<Integer, Integer> s = memoizeFunction(a -> a, cache);
+        for (int i = 0; i < 10_000; i++)
+            s.apply(i);
+        assertThat(cache.size() <= 1000, equalTo(true));
+        assertThat(cache.stats()
+                        .getEvictionCount(),
+                   equalTo(10_000 - cache.size()));
+    }
+
     @Test
     public void testMemoisePredicate() {
         Predicate<Integer> s = memoizePredicate(a -> a == ++called);
@@ -139,4 +319,506 @@ public class MemoiseTest {
         return a + b + c + d;
     }
 
+    @Test
+    public void testMemoiseBiFunctionNullArgumentsAndResults() {
+        Function2<Integer, Integer, Integer> s = memoizeBiFunction((a, b) -> {
+            called++;
+            return a == null || b == null ? null : a + b;
+        });
+        assertThat(s.apply(null, 1), equalTo(null));
+        assertThat(s.apply(null, 1), equalTo(null));
+        assertThat(s.apply(1, null), equalTo(null));
+        assertThat(s.apply(1, 1), equalTo(2));
+        assertThat(s.apply(1, 1), equalTo(2));
+        assertThat(called, equalTo(3));
+    }
+
+    /**
+     * Bytes allocated by the current thread while running hits, after a warm up run so the JIT has compiled the hit
+     * path. Skips the test on JVMs that do not report per thread allocation.
+     */
+    private static long allocatedBytes(Runnable hits) {
+        java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(threads instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) threads;
+        Assume.assumeTrue(bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled());
+        long id = Thread.currentThread()
+                        .getId();
+        hits.run();
+        long before = bean.getThreadAllocatedBytes(id);
+        hits.run();
+        return bean.getThreadAllocatedBytes(id) - before;
+    }
+
+    @Test
+    public void testMemoiseBiFunctionHitsDoNotAllocate() {
+        Function2<Integer, Integer, Integer> s = memoizeBiFunction((a, b) -> a + b);
+        Integer a = 1000;
+        Integer b = 2000;
+        long allocated = allocatedBytes(() -> {
+            for (int i = 0; i < 100_000; i++)
+                s.apply(a, b);
+        });
+        assertThat("allocated " + allocated + " bytes for 100,000 hits", allocated < 100_000, equalTo(true));
+    }
+
+    @Test
+    public void testMemoiseIntFunctionHitsDoNotAllocate() {
+        IntFunction<Integer> s = Memoize.memoizeIntFunction(a -> a * 2);
+        long allocated = allocatedBytes(() -> {
+            for (int i = 0; i < 100_000; i++)
+                s.apply(i & 1023);
+        });
+        assertThat("allocated " + allocated + " bytes for 100,000 hits", allocated < 100_000, equalTo(true));
+    }
+
+    Function<Integer, Long> fibonacci;
+
+    @Test
+    public void testMemoiseFunctionReentrant() {
+        fibonacci = memoizeFunction(n -> {
+            called++;
+            return n < 2 ? n : fibonacci.apply(n - 1) + fibonacci.apply(n - 2);
+        });
+        assertThat(fibonacci.apply(40), equalTo(102334155L));
+        assertThat(called, equalTo(41));
+    }
+
+    @Test
+    public void testMemoiseBiFunctionReentrant() {
+        Function2<Integer, Integer, Integer>[] binomial = new Function2[1];
+        binomial[0] = memoizeBiFunction((n, k) -> {
+            called++;
+            return k == 0 || k.equals(n) ? 1 : binomial[0].apply(n - 1, k - 1) + binomial[0].apply(n - 1, k);
+        });
+        assertThat(binomial[0].apply(20, 10), equalTo(184756));
+        assertThat(binomial[0].apply(20, 10), equalTo(184756));
+    }
+
+    @Test
+    public void testMemoiseIntFunction() {
+        IntFunction<Integer> s = Memoize.memoizeIntFunction(a -> a + ++called);
+        assertThat(s.apply(0), equalTo(1));
+        assertThat(s.apply(0), equalTo(1));
+        assertThat(s.apply(-1), equalTo(1));
+        assertThat(s.apply(-1), equalTo(1));
+        for (int i = 1; i < 1000; i++)
+            s.apply(i);
+        assertThat(s.apply(999), equalTo(2000));
+        assertThat(s.apply(0), equalTo(1));
+        assertThat(called, equalTo(1001));
+    }
+
+    @Test
+    public void testMemoiseIntFunctionDense() {
+        IntFunction<Integer> s = Memoize.memoizeIntFunction(a -> a == 5 ? null : a + ++called, 0, 9);
+        assertThat(s.apply(0), equalTo(1));
+        assertThat(s.apply(0), equalTo(1));
+        assertThat(s.apply(5), equalTo(null));
+        assertThat(s.apply(5), equalTo(null));
+        assertThat(s.apply(20), equalTo(22));
+        assertThat(s.apply(20), equalTo(22));
+        assertThat(called, equalTo(2));
+    }
+
+    @Test
+    public void testMemoiseLongFunction() {
+        LongFunction<Long> s = Memoize.memoizeLongFunction(a -> a + ++called);
+        assertThat(s.apply(Long.MAX_VALUE - 1), equalTo(Long.MAX_VALUE));
+        assertThat(s.apply(Long.MAX_VALUE - 1), equalTo(Long.MAX_VALUE));
+        assertThat(s.apply(0L), equalTo(2L));
+        assertThat(called, equalTo(2));
+    }
+
+    @Test
+    public void testMemoiseDoubleFunction() {
+        DoubleFunction<Double> s = Memoize.memoizeDoubleFunction(a -> a + ++called);
+        assertThat(s.apply(0.5), equalTo(1.5));
+        assertThat(s.apply(0.5), equalTo(1.5));
+        assertThat(s.apply(Double.NaN)
+                    .isNaN(),
+                   equalTo(true));
+        assertThat(s.apply(Double.NaN)
+                    .isNaN(),
+                   equalTo(true));
+        assertThat(called, equalTo(2));
+    }
+
+    @Test
+    public void testMemoiseIntBinaryOperator() {
+        IntBinaryOperator s = Memoize.memoizeIntBinaryOperator((a, b) -> a * b + ++called);
+        assertThat(s.applyAsInt(2, 3), equalTo(7));
+        assertThat(s.applyAsInt(2, 3), equalTo(7));
+        assertThat(s.applyAsInt(3, 2), equalTo(8));
+        assertThat(s.applyAsInt(-1, -1), equalTo(4));
+        assertThat(s.applyAsInt(-1, -1), equalTo(4));
+        assertThat(called, equalTo(3));
+    }
+
+    @Test
+    public void testMemoiseIntFunctionConcurrent() throws Exception {
+        AtomicInteger count = new AtomicInteger(0);
+        IntFunction<Integer> s = Memoize.memoizeIntFunction(a -> {
+            count.incrementAndGet();
+            return a * 2;
+        });
+        ExecutorService exec = Executors.newFixedThreadPool(8);
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int t = 0; t < 8; t++)
+            results.add(exec.submit(() -> {
+                for (int i = 0; i < 10_000; i++)
+                    if (s.apply(i) != i * 2)
+                        return false;
+                return true;
+            }));
+        for (Future<Boolean> next : results)
+            assertThat(next.get(), equalTo(true));
+        exec.shutdown();
+        assertThat(count.get() >= 10_000, equalTo(true));
+    }
+
+    @Test
+    public void testMemoiseCompletableFutureSharesInFlightLoad() {
+        CompletableFuture<Integer> pending = new CompletableFuture<>();
+        Function1<Integer, CompletableFuture<Integer>> s = Memoize.memoizeCompletableFuture(a -> {
+            called++;
+            return pending;
+        });
+        CompletableFuture<Integer> first = s.apply(1);
+        CompletableFuture<Integer> second = s.apply(1);
+        assertThat(called, equalTo(1));
+        pending.complete(10);
+        assertThat(first.join(), equalTo(10));
+        assertThat(second.join(), equalTo(10));
+        assertThat(s.apply(1)
+                    .join(),
+                   equalTo(10));
+        assertThat(called, equalTo(1));
+    }
+
+    @Test
+    public void testMemoiseCompletableFutureCallersCannotPoisonCache() {
+        CompletableFuture<Integer> pending = new CompletableFuture<>();
+        Function1<Integer, CompletableFuture<Integer>> s = Memoize.memoizeCompletableFuture(a -> {
+            called++;
+            return pending;
+        });
+        s.apply(1)
+         .complete(-1);
+        s.apply(1)
+         .cancel(true);
+        pending.complete(10);
+        assertThat(s.apply(1)
+                    .join(),
+                   equalTo(10));
+        s.apply(1)
+         .obtrudeValue(-1);
+        assertThat(s.apply(1)
+                    .join(),
+                   equalTo(10));
+        assertThat(called, equalTo(1));
+    }
+
+    @Test
+    public void testMemoiseCompletableFutureEvictsFailures() {
+        Function1<Integer, CompletableFuture<Integer>> s = Memoize.memoizeCompletableFuture(a -> {
+            CompletableFuture<Integer> result = new CompletableFuture<>();
+            if (++called == 1)
+                result.completeExceptionally(new IllegalStateException());
+            else
+                result.complete(a + called);
+            return result;
+        });
+        assertThat(s.apply(1)
+                    .isCompletedExceptionally(),
+                   equalTo(true));
+        assertThat(s.apply(1)
+                    .join(),
+                   equalTo(3));
+        assertThat(s.apply(1)
+                    .join(),
+                   equalTo(3));
+        assertThat(called, equalTo(2));
+    }
+
+    @Test
+    public void testMemoiseCompletableFutureExpiryAndRefresh() {
+        AtomicLong time = new AtomicLong();
+        CachePolicy policy = CachePolicy.unbounded()
+                                        .expireAfterWrite(10, TimeUnit.SECONDS)
+                                        .refreshAfterWrite(5, TimeUnit.SECONDS)
+                                        .ticker(time::get);
+        Function1<Integer, CompletableFuture<Integer>> s = Memoize.memoizeCompletableFuture(
+                                                                                            a -> CompletableFuture.completedFuture(a + ++called),
+                                                                                            policy);
+        assertThat(s.apply(0)
+                    .join(),
+                   equalTo(1));
+        time.set(TimeUnit.SECONDS.toNanos(6));
+        assertThat(s.apply(0)
+                    .join(),
+                   equalTo(1));
+        assertThat(s.apply(0)
+                    .join(),
+                   equalTo(2));
+        time.set(TimeUnit.SECONDS.toNanos(20));
+        assertThat(s.apply(0)
+                    .join(),
+                   equalTo(3));
+        assertThat(called, equalTo(3));
+    }
+
+    @Test
+    public void testMemoiseCompletableFutureFailedRefreshBacksOff() {
+        AtomicLong time = new AtomicLong();
+        CachePolicy policy = CachePolicy.unbounded()
+                                        .refreshAfterWrite(5, TimeUnit.SECONDS)
+                                        .ticker(time::get);
+        Function1<Integer, CompletableFuture<Integer>> s = Memoize.memoizeCompletableFuture(a -> {
+            CompletableFuture<Integer> result = new CompletableFuture<>();
+            if (++called == 1)
+                result.complete(a);
+            else
+                result.completeExceptionally(new IllegalStateException());
+            return result;
+        }, policy);
+        assertThat(s.apply(0)
+                    .join(),
+                   equalTo(0));
+        time.set(TimeUnit.SECONDS.toNanos(6));
+        assertThat(s.apply(0)
+                    .join(),
+                   equalTo(0));
+        assertThat(called, equalTo(2));
+        time.set(TimeUnit.SECONDS.toNanos(10));
+        assertThat(s.apply(0)
+                    .join(),
+                   equalTo(0));
+        assertThat(called, equalTo(2));
+        time.set(TimeUnit.SECONDS.toNanos(11));
+        assertThat(s.apply(0)
+                    .join(),
+                   equalTo(0));
+        assertThat(called, equalTo(3));
+    }
+
+    @Test
+    public void testMemoiseAsyncJavaslangFuture() {
+        AtomicInteger count = new AtomicInteger(0);
+        Function1<Integer, javaslang.concurrent.Future<Integer>> s = Memoize.memoizeAsync(
+                                                                                         a -> javaslang.concurrent.Future.of(() -> {
+                                                                                             count.incrementAndGet();
+                                                                                             Thread.sleep(100);
+                                                                                             return a * 2;
+                                                                                         }));
+        javaslang.concurrent.Future<Integer> first = s.apply(2);
+        javaslang.concurrent.Future<Integer> second = s.apply(2);
+        assertThat(first.get(), equalTo(4));
+        assertThat(second.get(), equalTo(4));
+        assertThat(s.apply(2)
+                    .get(),
+                   equalTo(4));
+        assertThat(count.get(), equalTo(1));
+    }
+
+    @Test
+    public void testMemoiseRecursive() {
+        Function1<Integer, Long> fib = Memoize.memoizeRecursive((self, n) -> {
+            called++;
+            return n < 2 ? n : self.apply(n - 1) + self.apply(n - 2);
+        });
+        assertThat(fib.apply(90), equalTo(2880067194370816120L));
+        assertThat(called, equalTo(91));
+        assertThat(fib.apply(90), equalTo(2880067194370816120L));
+        assertThat(called, equalTo(91));
+    }
+
+    @Test
+    public void testMemoiseRecursiveDeep() {
+        Function1<Integer, BigInteger> fib = Memoize.memoizeRecursive((self, n) -> n < 2 ? BigInteger.valueOf(n)
+                : self.apply(n - 1)
+                      .add(self.apply(n - 2)),
+                                                                      100);
+        BigInteger a = BigInteger.ZERO;
+        BigInteger b = BigInteger.ONE;
+        for (int i = 0; i < 50_000; i++) {
+            BigInteger next = a.add(b);
+            a = b;
+            b = next;
+        }
+        assertThat(fib.apply(50_000), equalTo(a));
+    }
+
+    @Test
+    public void testMemoiseRecursiveCachesNull() {
+        Function1<Integer, Integer> s = Memoize.memoizeRecursive((self, n) -> {
+            called++;
+            return n == 0 ? null : self.apply(n - 1);
+        }, 2);
+        assertThat(s.apply(10), equalTo(null));
+        int calls = called;
+        assertThat(s.apply(10), equalTo(null));
+        assertThat(s.apply(5), equalTo(null));
+        assertThat(called, equalTo(calls));
+    }
+
+    @Test
+    public void testMemoiseFunctionSingleFlight() throws Exception {
+        Map<Object, Integer> map = Collections.synchronizedMap(new HashMap<>());
+        SingleFlightCacheable<Integer> cache = Memoize.singleFlight((key, fn) -> {
+            Integer value = map.get(key);
+            if (value == null)
+                map.put(key, value = fn.apply(key));
+            return value;
+        });
+        AtomicInteger count = new AtomicInteger(0);
+        Function<Integer, Integer> s = memoizeFunction(a -> {
+            count.incrementAndGet();
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(100));
+            return a * 2;
+        }, cache);
+        ExecutorService exec = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++)
+            results.add(exec.submit(() -> {
+                start.await();
+                return s.apply(21);
+            }));
+        start.countDown();
+        for (Future<Integer> next : results)
+            assertThat(next.get(), equalTo(42));
+        exec.shutdown();
+        assertThat(count.get(), equalTo(1));
+        assertThat(cache.loadCount(), equalTo(1L));
+        assertThat(cache.coalescedCount() > 0, equalTo(true));
+        assertThat(s.apply(21), equalTo(42));
+        assertThat(s.apply(1), equalTo(2));
+        assertThat(count.get(), equalTo(2));
+    }
+
+    @Test
+    public void testMemoiseFunctionSingleFlightFailure() {
+        SingleFlightCacheable<Integer> cache = Memoize.singleFlight(Memoize.cache(CachePolicy.unbounded()));
+        Function<Integer, Integer> s = memoizeFunction(a -> {
+            if (++called == 1)
+                throw new IllegalStateException();
+            return a;
+        }, cache);
+        try {
+            s.apply(1);
+            fail("exception expected");
+        } catch (IllegalStateException e) {
+
+        }
+        assertThat(s.apply(1), equalTo(1));
+        assertThat(cache.loadCount(), equalTo(2L));
+    }
+
+    @Test
+    public void testNamedMemoizerStats() {
+        NamedMemoizer memoizer = Memoize.named("testNamedMemoizerStats");
+        try {
+            Function<Integer, Integer> s = memoizer.memoizeFunction(a -> a + ++called);
+            Function2<Integer, Integer, Integer> bi = memoizer.memoizeBiFunction((a, b) -> a + b + ++called);
+            s.apply(0);
+            s.apply(0);
+            s.apply(1);
+            bi.apply(1, 1);
+            bi.apply(1, 1);
+            MemoizerStats stats = Memoize.named("testNamedMemoizerStats")
+                                         .stats();
+            assertThat(stats.getHitCount(), equalTo(2L));
+            assertThat(stats.getMissCount(), equalTo(3L));
+            assertThat(stats.getSize(), equalTo(3L));
+            assertThat(stats.getEvictionCount(), equalTo(-1L));
+            assertThat(stats.hitRate(), equalTo(0.4));
+            assertThat(stats.loadTimePercentile(99) <= stats.getMaxLoadTime(), equalTo(true));
+        } finally {
+            memoizer.unregister();
+        }
+    }
+
+    @Test
+    public void testNamedMemoizerBoundedCache() {
+        NamedMemoizer memoizer = Memoize.named("testNamedMemoizerBoundedCache");
+        try {
+            Function<Integer, Integer> s = memoizer.memoizeFunction(a -> a + ++called,
+                                                                    Memoize.cache(CachePolicy.maximumSize(2)));
+            for (int i = 0; i < 5; i++)
+                s.apply(i);
+            s.apply(4);
+            MemoizerStats stats = memoizer.stats();
+            assertThat(stats.getHitCount(), equalTo(1L));
+            assertThat(stats.getMissCount(), equalTo(5L));
+            assertThat(stats.getSize(), equalTo(2L));
+            assertThat(stats.getEvictionCount(), equalTo(3L));
+        } finally {
+            memoizer.unregister();
+        }
+    }
+
+    @Test
+    public void testNamedMemoizerGettersMatchStats() {
+        NamedMemoizer memoizer = Memoize.named("testNamedMemoizerGettersMatchStats");
+        try {
+            Function<Integer, Integer> s = memoizer.memoizeFunction(a -> a + ++called);
+            s.apply(0);
+            s.apply(0);
+            s.apply(1);
+            MemoizerStats stats = memoizer.stats();
+            assertThat(memoizer.getHitCount(), equalTo(stats.getHitCount()));
+            assertThat(memoizer.getHitRate(), equalTo(stats.hitRate()));
+            assertThat(memoizer.getAverageLoadPenalty(), equalTo(stats.averageLoadPenalty()));
+            assertThat(memoizer.getLoadTime50thPercentile(), equalTo(stats.loadTimePercentile(50)));
+            assertThat(memoizer.getLoadTime99thPercentile(), equalTo(stats.loadTimePercentile(99)));
+        } finally {
+            memoizer.unregister();
+        }
+    }
+
+    @Test
+    public void testNamedMemoizerDoesNotRetainFunctions() throws InterruptedException {
+        NamedMemoizer memoizer = Memoize.named("testNamedMemoizerDoesNotRetainFunctions");
+        try {
+            memoizeAndDiscard(memoizer);
+            for (int i = 0; i < 50 && memoizer.getSize() != -1; i++) {
+                System.gc();
+                Thread.sleep(10);
+            }
+            assertThat(memoizer.getSize(), equalTo(-1L));
+            assertThat(memoizer.getEvictionCount(), equalTo(-1L));
+        } finally {
+            memoizer.unregister();
+        }
+    }
+
+    private void memoizeAndDiscard(NamedMemoizer memoizer) {
+        Function<Integer, Integer> s = memoizer.memoizeFunction(a -> a + 1, Memoize.cache(CachePolicy.maximumSize(2)));
+        s.apply(1);
+        assertThat(memoizer.getSize(), equalTo(1L));
+    }
+
+    @Test
+    public void testNamedMemoizerMBean() throws Exception {
+        NamedMemoizer memoizer = Memoize.named("testNamedMemoizerMBean");
+        ObjectName name = new ObjectName(
+                                         "com.aol.cyclops.javaslang.caching:type=Memoizer,name="
+                                                 + ObjectName.quote("testNamedMemoizerMBean"));
+        try {
+            Function<Integer, Integer> s = memoizer.memoizeFunction(a -> a + ++called);
+            s.apply(0);
+            s.apply(0);
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            assertThat(server.getAttribute(name, "HitCount"), equalTo(1L));
+            assertThat(server.getAttribute(name, "MissCount"), equalTo(1L));
+            assertThat(server.getAttribute(name, "Size"), equalTo(1L));
+        } finally {
+            memoizer.unregister();
+        }
+        assertThat(ManagementFactory.getPlatformMBeanServer()
+                                    .isRegistered(name),
+                   equalTo(false));
+    }
+
 }
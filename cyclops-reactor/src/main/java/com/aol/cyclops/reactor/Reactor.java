@@ -1,7 +1,9 @@
 package com.aol.cyclops.reactor;
 
+import java.util.Spliterator;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.stream.StreamSupport;
 
 import org.reactivestreams.Publisher;
 
@@ -31,6 +33,20 @@ public interface Reactor {
         return AnyM.ofSeq(flux);
     }
 
+    /**
+     * Lazily convert a Flux into a ReactiveSeq. The Flux is subscribed to when the ReactiveSeq is traversed, its
+     * emissions are queued and drained on the consuming thread, so Fluxs that emit on other threads (e.g. via
+     * publishOn / subscribeOn) can be safely consumed.
+     * 
+     * @param flux Flux to convert
+     * @return ReactiveSeq over the values emitted by the Flux
+     */
+    public static <T> ReactiveSeq<T> reactiveSeq(Flux<T> flux) {
+        return ReactiveSeq.fromStream(StreamSupport.stream(() -> flux.toIterable()
+                                                                     .spliterator(),
+                                                           Spliterator.ORDERED, false));
+    }
+
     public static <T> FluxTSeq<T> fluxT(Publisher<Flux<T>> nested) {
         return FluxT.fromPublisher(nested);
     }
@@ -3,17 +3,38 @@ package com.aol.cyclops.reactor.comprehenders;
 import java.util.Iterator;
 import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.BaseStream;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import com.aol.cyclops.control.FutureW;
+import com.aol.cyclops.control.ReactiveSeq;
 import com.aol.cyclops.types.extensability.Comprehender;
 
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 public class FluxComprehender implements Comprehender<Flux> {
+
+    /**
+     * Maximum number of elements requested from a Flux at a time when it is resolved into a strictly synchronous target
+     * type (see {@link #resolveForCrossTypeFlatMap(Comprehender, Flux)}). Defaults to 256.
+     * 
+     * FluxComprehender is instantiated by the {@link java.util.ServiceLoader}, so the value can only be configured via
+     * the system property <code>cyclops.reactor.flux.prefetch</code>, which is read once when this class is loaded e.g.
+     * 
+     * <pre>
+     * {@code
+     *   java -Dcyclops.reactor.flux.prefetch=32 ...
+     * }
+     * </pre>
+     */
+    public static final int DEFAULT_PREFETCH = Integer.getInteger("cyclops.reactor.flux.prefetch", 256);
+
     public Class getTargetClass() {
         return Flux.class;
     }
@@ -52,12 +73,40 @@ public class FluxComprehender implements Comprehender<Flux> {
         return Flux.just(o);
     }
 
+    /**
+     * Convert a Flux into the type managed by the target Comprehender.
+     * 
+     * Asynchronous targets (CompletableFuture, FutureW, Mono) are completed from the first element of the Flux without
+     * blocking the calling thread, an empty Flux resolves to the empty value of the target. Stream targets subscribe to
+     * the Flux as a Publisher when consumed. All other (strictly synchronous) targets block for the Flux elements with
+     * bounded demand of at most {@link #DEFAULT_PREFETCH} elements at a time. Comprehenders that do not report a target
+     * class are treated as synchronous.
+     */
     public Object resolveForCrossTypeFlatMap(Comprehender comp, Flux apply) {
-
-        return comp.fromIterator(apply.toIterable()
+        Class target = comp.getTargetClass();
+        if (target != null) {
+            if (Mono.class.isAssignableFrom(target))
+                return apply.next();
+            if (CompletableFuture.class.isAssignableFrom(target))
+                return firstOrEmpty(apply, () -> (CompletableFuture) comp.empty());
+            if (FutureW.class.isAssignableFrom(target))
+                return FutureW.of(firstOrEmpty(apply, () -> ((FutureW) comp.empty()).getFuture()));
+            if (BaseStream.class.isAssignableFrom(target))
+                return ReactiveSeq.fromPublisher(apply);
+        }
+        return comp.fromIterator(apply.toIterable(DEFAULT_PREFETCH)
                                       .iterator());
     }
 
+    /**
+     * Complete with the first element of the Flux, or with the supplied empty future if the Flux completes empty
+     */
+    private static CompletableFuture firstOrEmpty(Flux flux, Supplier<CompletableFuture> empty) {
+        return flux.next()
+                   .toFuture()
+                   .thenCompose(first -> first == null ? empty.get() : CompletableFuture.completedFuture(first));
+    }
+
     public static Flux unwrapOtherMonadTypes(Comprehender<Flux> comp, Object apply) {
         if (apply instanceof Flux)
             return (Flux) apply;
@@ -1,9 +1,14 @@
 package com.aol.cyclops.reactor.comprehenders;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.BaseStream;
 
+import com.aol.cyclops.control.Eval;
 import com.aol.cyclops.control.FutureW;
+import com.aol.cyclops.control.ReactiveSeq;
 import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.types.extensability.Comprehender;
 import com.aol.cyclops.types.extensability.ValueComprehender;
@@ -17,8 +22,7 @@ public class MonoComprehender implements ValueComprehender<Mono> {
 
     @Override
     public Object filter(Mono o, Predicate p) {
-        return FutureW.of(o.toFuture())
-                      .filter(p);
+        return o.filter(p);
     }
 
     @Override
@@ -46,11 +50,40 @@ public class MonoComprehender implements ValueComprehender<Mono> {
         return Mono.empty();
     }
 
+    /**
+     * Convert a Mono into the type managed by the target Comprehender.
+     * 
+     * Asynchronous targets (CompletableFuture, FutureW, Mono) are completed by the Mono without blocking the calling thread,
+     * lazy targets (Eval, Stream) only subscribe to the Mono when their value is requested. Strictly synchronous targets
+     * block until the Mono completes. An empty Mono resolves to the empty value of the target.
+     */
     @Override
     public Object resolveForCrossTypeFlatMap(Comprehender comp, Mono apply) {
+        Class target = comp.getTargetClass();
+        if (target != null) {
+            if (Mono.class.isAssignableFrom(target))
+                return apply;
+            if (CompletableFuture.class.isAssignableFrom(target))
+                return valueOrEmpty(apply, () -> (CompletableFuture) comp.empty());
+            if (FutureW.class.isAssignableFrom(target))
+                return FutureW.of(valueOrEmpty(apply, () -> ((FutureW) comp.empty()).getFuture()));
+            if (Eval.class.isAssignableFrom(target))
+                return Eval.later(() -> apply.block())
+                           .flatMap(value -> value == null ? (Eval) comp.empty() : Eval.now(value));
+            if (BaseStream.class.isAssignableFrom(target))
+                return ReactiveSeq.fromPublisher(apply);
+        }
         Xor<Throwable, ?> res = FutureW.of(apply.toFuture())
                                        .toXor();
-        return res.isPrimary() ? comp.of(res.get()) : comp.empty();
+        return res.isPrimary() && res.get() != null ? comp.of(res.get()) : comp.empty();
+    }
+
+    /**
+     * Complete with the value of the Mono, or with the supplied empty future if the Mono completes empty
+     */
+    private static CompletableFuture valueOrEmpty(Mono mono, Supplier<CompletableFuture> empty) {
+        return mono.toFuture()
+                   .thenCompose(value -> value == null ? empty.get() : CompletableFuture.completedFuture(value));
     }
 
 }
\ No newline at end of file
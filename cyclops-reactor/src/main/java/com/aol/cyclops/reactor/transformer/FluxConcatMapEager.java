@@ -0,0 +1,279 @@
+package com.aol.cyclops.reactor.transformer;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * Eager, ordered flatMap for Reactor 2.5, which has no flatMapSequential / concatMapEager operator
+ *
+ * Up to maxConcurrency inner Publishers are subscribed to at once. Each inner Publisher has at most prefetch elements
+ * outstanding, elements are queued per inner Publisher and drained from the oldest (head) inner Publisher as they
+ * arrive, so results are emitted in the order of the source elements with bounded buffering. A new source element is
+ * requested each time an inner Publisher completes.
+ */
+final class FluxConcatMapEager<T, R> implements Publisher<R> {
+
+    private final Publisher<T> source;
+    private final Function<? super T, ? extends Publisher<? extends R>> mapper;
+    private final int maxConcurrency;
+    private final int prefetch;
+
+    FluxConcatMapEager(Publisher<T> source, Function<? super T, ? extends Publisher<? extends R>> mapper,
+            int maxConcurrency, int prefetch) {
+        if (maxConcurrency <= 0)
+            throw new IllegalArgumentException("maxConcurrency must be positive but was " + maxConcurrency);
+        if (prefetch <= 0)
+            throw new IllegalArgumentException("prefetch must be positive but was " + prefetch);
+        this.source = source;
+        this.mapper = mapper;
+        this.maxConcurrency = maxConcurrency;
+        this.prefetch = prefetch;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super R> actual) {
+        source.subscribe(new MainSubscriber<>(
+                                              actual, mapper, maxConcurrency, prefetch));
+    }
+
+    static final class MainSubscriber<T, R> implements Subscriber<T>, Subscription {
+        private final Subscriber<? super R> actual;
+        private final Function<? super T, ? extends Publisher<? extends R>> mapper;
+        private final int maxConcurrency;
+        private final int prefetch;
+        private final Queue<InnerSubscriber<R>> inners = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger wip = new AtomicInteger();
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicReference<Throwable> error = new AtomicReference<>();
+        private volatile boolean done;
+        private volatile boolean cancelled;
+        private Subscription s;
+
+        MainSubscriber(Subscriber<? super R> actual, Function<? super T, ? extends Publisher<? extends R>> mapper,
+                int maxConcurrency, int prefetch) {
+            this.actual = actual;
+            this.mapper = mapper;
+            this.maxConcurrency = maxConcurrency;
+            this.prefetch = prefetch;
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            this.s = s;
+            actual.onSubscribe(this);
+            s.request(maxConcurrency == Integer.MAX_VALUE ? Long.MAX_VALUE : maxConcurrency);
+        }
+
+        @Override
+        public void onNext(T t) {
+            if (done || cancelled)
+                return;
+            Publisher<? extends R> publisher;
+            try {
+                publisher = Objects.requireNonNull(mapper.apply(t), "The mapper returned a null Publisher");
+            } catch (Throwable e) {
+                s.cancel();
+                onError(e);
+                return;
+            }
+            InnerSubscriber<R> inner = new InnerSubscriber<>(
+                                                             this, prefetch);
+            inners.offer(inner);
+            publisher.subscribe(inner);
+            drain();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            done = true;
+            innerError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            done = true;
+            drain();
+        }
+
+        void innerError(Throwable t) {
+            if (error.compareAndSet(null, t))
+                drain();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                innerError(new IllegalArgumentException(
+                                                        "Rule 3.9: request must be positive but was " + n));
+                return;
+            }
+            long current;
+            long next;
+            do {
+                current = requested.get();
+                next = current + n < 0 ? Long.MAX_VALUE : current + n;
+            } while (!requested.compareAndSet(current, next));
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            if (cancelled)
+                return;
+            cancelled = true;
+            s.cancel();
+            if (wip.getAndIncrement() == 0)
+                cancelInners();
+        }
+
+        private void cancelInners() {
+            InnerSubscriber<R> inner;
+            while ((inner = inners.poll()) != null)
+                inner.cancel();
+        }
+
+        /**
+         * Remove completed and fully drained inner subscribers from the head of the queue, requesting a replacement
+         * source element for each
+         */
+        private InnerSubscriber<R> advanceHead() {
+            InnerSubscriber<R> head = inners.peek();
+            while (head != null && head.done && head.queue.isEmpty()) {
+                inners.poll();
+                if (!done)
+                    s.request(1);
+                head = inners.peek();
+            }
+            return head;
+        }
+
+        void drain() {
+            if (wip.getAndIncrement() != 0)
+                return;
+            int missed = 1;
+            for (;;) {
+                if (cancelled) {
+                    cancelInners();
+                    return;
+                }
+                Throwable ex = error.get();
+                if (ex != null) {
+                    cancelled = true;
+                    s.cancel();
+                    cancelInners();
+                    actual.onError(ex);
+                    return;
+                }
+                long r = requested.get();
+                long e = 0;
+                InnerSubscriber<R> head = advanceHead();
+                while (head != null && e != r) {
+                    if (cancelled || error.get() != null)
+                        break;
+                    R value = head.queue.poll();
+                    if (value == null) {
+                        if (!head.done)
+                            break;
+                        head = advanceHead();
+                        continue;
+                    }
+                    actual.onNext(value);
+                    e++;
+                    head.consumed();
+                }
+                if (e != 0 && r != Long.MAX_VALUE)
+                    requested.addAndGet(-e);
+                boolean sourceDone = done;
+                if (!cancelled && error.get() == null && sourceDone && advanceHead() == null) {
+                    cancelled = true;
+                    actual.onComplete();
+                    return;
+                }
+                missed = wip.addAndGet(-missed);
+                if (missed == 0)
+                    return;
+            }
+        }
+    }
+
+    static final class InnerSubscriber<R> implements Subscriber<R> {
+        private static final Subscription CANCELLED = new Subscription() {
+            @Override
+            public void request(long n) {
+            }
+
+            @Override
+            public void cancel() {
+            }
+        };
+
+        private final MainSubscriber<?, R> parent;
+        private final int prefetch;
+        private final int limit;
+        private final AtomicReference<Subscription> s = new AtomicReference<>();
+        final Queue<R> queue = new ConcurrentLinkedQueue<>();
+        volatile boolean done;
+        private int consumed;
+
+        InnerSubscriber(MainSubscriber<?, R> parent, int prefetch) {
+            this.parent = parent;
+            this.prefetch = prefetch;
+            this.limit = Math.max(1, prefetch - (prefetch >> 2));
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            if (!s.compareAndSet(null, subscription)) {
+                subscription.cancel();
+                return;
+            }
+            subscription.request(prefetch == Integer.MAX_VALUE ? Long.MAX_VALUE : prefetch);
+        }
+
+        @Override
+        public void onNext(R value) {
+            queue.offer(value);
+            parent.drain();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            parent.innerError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            done = true;
+            parent.drain();
+        }
+
+        /**
+         * Called from the (serialised) drain loop for every element emitted from this inner subscriber, replenishes
+         * demand in batches once limit elements have been consumed
+         */
+        void consumed() {
+            if (prefetch == Integer.MAX_VALUE)
+                return;
+            if (++consumed == limit) {
+                consumed = 0;
+                s.get()
+                 .request(limit);
+            }
+        }
+
+        void cancel() {
+            Subscription current = s.getAndSet(CANCELLED);
+            if (current != null && current != CANCELLED)
+                current.cancel();
+        }
+    }
+}
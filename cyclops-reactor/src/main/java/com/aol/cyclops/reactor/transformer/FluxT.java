@@ -36,6 +36,7 @@ import com.aol.cyclops.types.anyM.AnyMSeq;
 import com.aol.cyclops.types.anyM.AnyMValue;
 
 import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Scheduler;
 
 /**
  * Monad Transformer for RxJava Fluxs
@@ -59,6 +60,81 @@ public interface FluxT<T> extends FoldableTransformerSeq<T> {
 
     public <B> FluxT<B> flatMap(Function<? super T, ? extends Flux<? extends B>> f);
 
+    /**
+     * Flat Map the wrapped Flux, subscribing to at most maxConcurrency inner Fluxes at a time
+     * 
+     * <pre>
+     * {@code 
+     *  FluxT.fromIterable(ListX.of(Flux.range(1,1000)))
+     *       .flatMap(i->loadRemote(i),16,32);
+     *  
+     *  //no more than 16 calls to loadRemote in flight at once
+     * }
+     * </pre>
+     * 
+     * @param f FlatMap function
+     * @param maxConcurrency Maximum number of inner Fluxes subscribed to concurrently
+     * @param prefetch Number of elements requested from each inner Flux at a time
+     * @return FluxT that applies the flatMap function to the wrapped Flux
+     */
+    public <B> FluxT<B> flatMap(Function<? super T, ? extends Flux<? extends B>> f, int maxConcurrency, int prefetch);
+
+    /**
+     * Flat Map the wrapped Flux, subscribing to each inner Flux only once the previous one has completed. 
+     * Results are emitted in the order of the source elements.
+     * 
+     * @param f FlatMap function
+     * @return FluxT that applies the flatMap function to the wrapped Flux
+     */
+    public <B> FluxT<B> concatMap(Function<? super T, ? extends Flux<? extends B>> f);
+
+    /**
+     * Flat Map the wrapped Flux, subscribing to up to maxConcurrency inner Fluxes concurrently while emitting results 
+     * in the order of the source elements. The output of each inner Flux is buffered until it completes.
+     * 
+     * <pre>
+     * {@code 
+     *  FluxT.fromIterable(ListX.of(Flux.just(1,2,3)))
+     *       .flatMapSequential(i->Flux.just(i,i*10),2,32);
+     *  
+     *  //FluxT[Flux[1,10,2,20,3,30]]
+     * }
+     * </pre>
+     * 
+     * @param f FlatMap function
+     * @param maxConcurrency Maximum number of inner Fluxes subscribed to concurrently
+     * @param prefetch Number of elements requested from the wrapped Flux at a time
+     * @return FluxT that applies the flatMap function to the wrapped Flux
+     */
+    public <B> FluxT<B> flatMapSequential(Function<? super T, ? extends Flux<? extends B>> f, int maxConcurrency,
+            int prefetch);
+
+    /**
+     * Emit the elements of each wrapped Flux on the supplied Scheduler
+     * 
+     * <pre>
+     * {@code 
+     *  FluxT.fromIterable(ListX.of(Flux.range(1,1000),Flux.range(1,1000)))
+     *       .publishOn(Schedulers.parallel())
+     *       .map(this::expensiveOperation);
+     *  
+     *  //expensiveOperation is executed on the parallel Scheduler for each wrapped Flux
+     * }
+     * </pre>
+     * 
+     * @param scheduler Scheduler to publish elements on
+     * @return FluxT with publishOn applied to each wrapped Flux
+     */
+    public FluxT<T> publishOn(Scheduler scheduler);
+
+    /**
+     * Subscribe to each wrapped Flux on the supplied Scheduler
+     * 
+     * @param scheduler Scheduler to subscribe on
+     * @return FluxT with subscribeOn applied to each wrapped Flux
+     */
+    public FluxT<T> subscribeOn(Scheduler scheduler);
+
     default Flux<Flux<T>> fluxOfFlux() {
         return Flux.from(this.unwrap()
                              .stream());
@@ -1,8 +1,11 @@
 package com.aol.cyclops.reactor.transformer;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Random;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
@@ -15,6 +18,7 @@ import java.util.stream.Collector;
 import java.util.stream.Stream;
 
 import org.jooq.lambda.Seq;
+import org.jooq.lambda.tuple.Tuple;
 import org.jooq.lambda.tuple.Tuple2;
 import org.jooq.lambda.tuple.Tuple3;
 import org.jooq.lambda.tuple.Tuple4;
@@ -23,12 +27,14 @@ import com.aol.cyclops.Monoid;
 import com.aol.cyclops.control.AnyM;
 import com.aol.cyclops.control.ReactiveSeq;
 import com.aol.cyclops.data.collections.extensions.standard.ListX;
+import com.aol.cyclops.reactor.Reactor;
 import com.aol.cyclops.types.IterableFoldable;
 import com.aol.cyclops.types.Traversable;
 import com.aol.cyclops.types.anyM.AnyMSeq;
 import com.aol.cyclops.types.stream.CyclopsCollectable;
 
 import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Scheduler;
 
 /**
  * Monad Transformer for Rx Fluxs
@@ -139,6 +145,48 @@ public class FluxTSeq<T> implements FluxT<T> {
                                           .<B> flatMap(a -> a)));
     }
 
+    /**
+     * Flat Map the wrapped Stream, subscribing to at most maxConcurrency of the resulting Fluxs at once
+     * 
+     * @param f FlatMap function
+     * @param maxConcurrency Maximum number of inner Fluxs subscribed to at once
+     * @param prefetch Number of elements requested from each inner Flux at a time
+     * @return FluxT that applies the flatMap function to the wrapped Stream with bounded concurrency
+     */
+    public <B> FluxTSeq<B> flatMapT(Function<? super T, FluxTSeq<? extends B>> f, int maxConcurrency, int prefetch) {
+        return of(run.map(stream -> stream.concatMap(a -> Flux.from(f.apply(a).run.stream()))
+                                          .<B> flatMap(a -> a, maxConcurrency, prefetch)));
+    }
+
+    /**
+     * Flat Map the wrapped Stream, subscribing to the resulting Fluxs one at a time so that results keep the order of
+     * the source elements
+     * 
+     * @param f FlatMap function
+     * @return FluxT that applies the flatMap function to the wrapped Stream sequentially
+     */
+    public <B> FluxTSeq<B> concatMapT(Function<? super T, FluxTSeq<? extends B>> f) {
+        return of(run.map(stream -> stream.concatMap(a -> Flux.from(f.apply(a).run.stream()))
+                                          .<B> concatMap(a -> a)));
+    }
+
+    /**
+     * Flat Map the wrapped Stream, subscribing to at most maxConcurrency of the resulting Fluxs at once and emitting
+     * their results in the order of the source elements
+     * 
+     * @param f FlatMap function
+     * @param maxConcurrency Maximum number of inner Fluxs subscribed to at once
+     * @param prefetch Number of elements requested from, and buffered for, each inner Flux at a time
+     * @return FluxT that applies the flatMap function to the wrapped Stream with bounded concurrency, in order
+     */
+    public <B> FluxTSeq<B> flatMapSequentialT(Function<? super T, FluxTSeq<? extends B>> f, int maxConcurrency,
+            int prefetch) {
+        return of(run.map(stream -> {
+            Flux<Flux<? extends B>> inners = stream.concatMap(a -> Flux.from(f.apply(a).run.stream()));
+            return FluxTSeq.flatMapSequential(inners, a -> a, maxConcurrency, prefetch);
+        }));
+    }
+
     public <B> FluxTSeq<B> flatMap(Function<? super T, ? extends Flux<? extends B>> f) {
 
         return new FluxTSeq<B>(
@@ -146,6 +194,67 @@ public class FluxTSeq<T> implements FluxT<T> {
 
     }
 
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.aol.cyclops.reactor.transformer.FluxT#flatMap(java.util.function.Function, int, int)
+     */
+    @Override
+    public <B> FluxTSeq<B> flatMap(Function<? super T, ? extends Flux<? extends B>> f, int maxConcurrency,
+            int prefetch) {
+
+        return new FluxTSeq<B>(
+                               run.map(o -> o.flatMap(f, maxConcurrency, prefetch)));
+
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.aol.cyclops.reactor.transformer.FluxT#concatMap(java.util.function.Function)
+     */
+    @Override
+    public <B> FluxTSeq<B> concatMap(Function<? super T, ? extends Flux<? extends B>> f) {
+
+        return new FluxTSeq<B>(
+                               run.map(o -> o.concatMap(f)));
+
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.aol.cyclops.reactor.transformer.FluxT#flatMapSequential(java.util.function.Function, int, int)
+     */
+    @Override
+    public <B> FluxTSeq<B> flatMapSequential(Function<? super T, ? extends Flux<? extends B>> f, int maxConcurrency,
+            int prefetch) {
+
+        return new FluxTSeq<B>(
+                               run.map(o -> FluxTSeq.flatMapSequential(o, f, maxConcurrency, prefetch)));
+
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.aol.cyclops.reactor.transformer.FluxT#publishOn(reactor.core.scheduler.Scheduler)
+     */
+    @Override
+    public FluxTSeq<T> publishOn(Scheduler scheduler) {
+        return of(run.map(flux -> flux.publishOn(scheduler)));
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.aol.cyclops.reactor.transformer.FluxT#subscribeOn(reactor.core.scheduler.Scheduler)
+     */
+    @Override
+    public FluxTSeq<T> subscribeOn(Scheduler scheduler) {
+        return of(run.map(flux -> flux.subscribeOn(scheduler)));
+    }
+
     /**
      * Lift a function into one that accepts and returns an FluxT
      * This allows multiple monad types to add functionality to existing functions and methods
@@ -224,7 +333,7 @@ public class FluxTSeq<T> implements FluxT<T> {
 
     @Override
     public ReactiveSeq<T> stream() {
-        return run.map(i -> ReactiveSeq.fromPublisher(i))
+        return run.map(i -> Reactor.reactiveSeq(i))
                   .stream()
                   .flatMap(e -> e);
     }
@@ -234,6 +343,63 @@ public class FluxTSeq<T> implements FluxT<T> {
         return Flux.from(stream());
     }
 
+    /**
+     * Flatten the wrapped Fluxes by subscribing to up to maxConcurrency of them at once,
+     * emitting elements in the order they arrive. The latency is that of the slowest inner Flux
+     * (within each concurrency window) rather than the sum of them all, as with {@link #stream()}
+     *
+     * <pre>
+     * {@code
+     *  FluxT.fromIterable(ListX.of(Flux.just(1,2),Flux.just(3)))
+     *       .mergedFlux(2,32);
+     *
+     *  //Flux[1,2,3] in arrival order
+     * }
+     * </pre>
+     *
+     * @param maxConcurrency Maximum number of inner Fluxes subscribed to at once
+     * @param prefetch Number of elements buffered from each inner Flux
+     * @return Single Flux merging all wrapped Fluxes
+     */
+    public Flux<T> mergedFlux(int maxConcurrency, int prefetch) {
+        return Flux.defer(() -> Flux.fromIterable(run.stream()))
+                   .flatMap(i -> i, maxConcurrency, prefetch);
+    }
+
+    /**
+     * @see #mergedFlux(int, int)
+     * @param maxConcurrency Maximum number of inner Fluxes subscribed to at once
+     * @param prefetch Number of elements buffered from each inner Flux
+     * @return ReactiveSeq merging all wrapped Fluxes, in arrival order
+     */
+    public ReactiveSeq<T> mergedStream(int maxConcurrency, int prefetch) {
+        return ReactiveSeq.fromIterable(mergedFlux(maxConcurrency, prefetch).toIterable(prefetch));
+    }
+
+    /**
+     * Flatten the wrapped Fluxes by subscribing to up to maxConcurrency of them at once,
+     * but emit the elements of each inner Flux in the order the Fluxes are wrapped (the same order as {@link #stream()}).
+     * At most prefetch elements are buffered per inner Flux, elements of the earliest wrapped Flux are emitted as they
+     * arrive.
+     *
+     * @param maxConcurrency Maximum number of inner Fluxes subscribed to at once
+     * @param prefetch Number of elements requested from each inner Flux
+     * @return Single Flux merging all wrapped Fluxes in order
+     */
+    public Flux<T> orderedMergedFlux(int maxConcurrency, int prefetch) {
+        return flatMapSequential(Flux.defer(() -> Flux.fromIterable(run.stream())), i -> i, maxConcurrency, prefetch);
+    }
+
+    /**
+     * @see #orderedMergedFlux(int, int)
+     * @param maxConcurrency Maximum number of inner Fluxes subscribed to at once
+     * @param prefetch Number of elements requested from each inner Flux
+     * @return ReactiveSeq merging all wrapped Fluxes in order
+     */
+    public ReactiveSeq<T> orderedMergedStream(int maxConcurrency, int prefetch) {
+        return ReactiveSeq.fromIterable(orderedMergedFlux(maxConcurrency, prefetch).toIterable(prefetch));
+    }
+
     @Override
     public Iterator<T> iterator() {
         return stream().iterator();
@@ -251,13 +417,13 @@ public class FluxTSeq<T> implements FluxT<T> {
 
     @Override
     public AnyM<? extends IterableFoldable<T>> nestedFoldables() {
-        return run.map(i -> ReactiveSeq.fromPublisher(i));
+        return run.map(i -> Reactor.reactiveSeq(i));
 
     }
 
     @Override
     public AnyM<? extends CyclopsCollectable<T>> nestedCollectables() {
-        return run.map(i -> ReactiveSeq.fromPublisher(i));
+        return run.map(i -> Reactor.reactiveSeq(i));
 
     }
 
@@ -269,7 +435,7 @@ public class FluxTSeq<T> implements FluxT<T> {
 
     @Override
     public AnyMSeq<? extends Traversable<T>> transformerStream() {
-        return run.map(i -> ReactiveSeq.fromPublisher(i));
+        return run.map(i -> Reactor.reactiveSeq(i));
     }
 
     public static <T> FluxTSeq<T> emptyStream() {
@@ -401,7 +567,10 @@ public class FluxTSeq<T> implements FluxT<T> {
     @Override
     public FluxTSeq<Tuple2<T, Long>> zipWithIndex() {
 
-        return (FluxTSeq<Tuple2<T, Long>>) FluxT.super.zipWithIndex();
+        return of(run.map(flux -> Flux.defer(() -> {
+            final long[] index = { 0 };
+            return flux.map(next -> Tuple.tuple(next, index[0]++));
+        })));
     }
 
     /*
@@ -413,7 +582,7 @@ public class FluxTSeq<T> implements FluxT<T> {
     @Override
     public FluxTSeq<ListX<T>> sliding(int windowSize) {
 
-        return (FluxTSeq<ListX<T>>) FluxT.super.sliding(windowSize);
+        return sliding(windowSize, 1);
     }
 
     /*
@@ -425,8 +594,9 @@ public class FluxTSeq<T> implements FluxT<T> {
      */
     @Override
     public FluxTSeq<ListX<T>> sliding(int windowSize, int increment) {
-
-        return (FluxTSeq<ListX<T>>) FluxT.super.sliding(windowSize, increment);
+        if (increment > windowSize)
+            return (FluxTSeq<ListX<T>>) FluxT.super.sliding(windowSize, increment);
+        return of(run.map(flux -> sliding(flux, windowSize, increment)));
     }
 
     /*
@@ -439,7 +609,12 @@ public class FluxTSeq<T> implements FluxT<T> {
     @Override
     public <C extends Collection<? super T>> FluxTSeq<C> grouped(int size, Supplier<C> supplier) {
 
-        return (FluxTSeq<C>) FluxT.super.grouped(size, supplier);
+        return of(run.map(flux -> flux.buffer(size)
+                                      .map(buffer -> {
+                                          C group = supplier.get();
+                                          group.addAll(buffer);
+                                          return group;
+                                      })));
     }
 
     /*
@@ -452,7 +627,7 @@ public class FluxTSeq<T> implements FluxT<T> {
     @Override
     public FluxTSeq<ListX<T>> groupedUntil(Predicate<? super T> predicate) {
 
-        return (FluxTSeq<ListX<T>>) FluxT.super.groupedUntil(predicate);
+        return groupedUntil(predicate, () -> ListX.empty());
     }
 
     /*
@@ -477,7 +652,7 @@ public class FluxTSeq<T> implements FluxT<T> {
     @Override
     public FluxTSeq<ListX<T>> groupedWhile(Predicate<? super T> predicate) {
 
-        return (FluxTSeq<ListX<T>>) FluxT.super.groupedWhile(predicate);
+        return groupedWhile(predicate, () -> ListX.empty());
     }
 
     /*
@@ -491,7 +666,7 @@ public class FluxTSeq<T> implements FluxT<T> {
     public <C extends Collection<? super T>> FluxTSeq<C> groupedWhile(Predicate<? super T> predicate,
             Supplier<C> factory) {
 
-        return (FluxTSeq<C>) FluxT.super.groupedWhile(predicate, factory);
+        return groupedUntil(predicate.negate(), factory);
     }
 
     /*
@@ -505,7 +680,7 @@ public class FluxTSeq<T> implements FluxT<T> {
     public <C extends Collection<? super T>> FluxTSeq<C> groupedUntil(Predicate<? super T> predicate,
             Supplier<C> factory) {
 
-        return (FluxTSeq<C>) FluxT.super.groupedUntil(predicate, factory);
+        return of(run.map(flux -> bufferUntil(flux, predicate, factory)));
     }
 
     /*
@@ -517,7 +692,8 @@ public class FluxTSeq<T> implements FluxT<T> {
     @Override
     public FluxTSeq<ListX<T>> grouped(int groupSize) {
 
-        return (FluxTSeq<ListX<T>>) FluxT.super.grouped(groupSize);
+        return of(run.map(flux -> flux.buffer(groupSize)
+                                      .map(ListX::fromIterable)));
     }
 
     /*
@@ -555,7 +731,7 @@ public class FluxTSeq<T> implements FluxT<T> {
     @Override
     public FluxTSeq<T> distinct() {
 
-        return (FluxTSeq<T>) FluxT.super.distinct();
+        return of(run.map(flux -> flux.distinct()));
     }
 
     /*
@@ -568,7 +744,7 @@ public class FluxTSeq<T> implements FluxT<T> {
     @Override
     public FluxTSeq<T> scanLeft(Monoid<T> monoid) {
 
-        return (FluxTSeq<T>) FluxT.super.scanLeft(monoid);
+        return scanLeft(monoid.zero(), monoid);
     }
 
     /*
@@ -581,7 +757,7 @@ public class FluxTSeq<T> implements FluxT<T> {
     @Override
     public <U> FluxTSeq<U> scanLeft(U seed, BiFunction<? super U, ? super T, ? extends U> function) {
 
-        return (FluxTSeq<U>) FluxT.super.scanLeft(seed, function);
+        return of(run.map(flux -> flux.scan(seed, (acc, next) -> function.apply(acc, next))));
     }
 
     /*
@@ -644,7 +820,7 @@ public class FluxTSeq<T> implements FluxT<T> {
     @Override
     public FluxTSeq<T> takeWhile(Predicate<? super T> p) {
 
-        return (FluxTSeq<T>) FluxT.super.takeWhile(p);
+        return limitWhile(p);
     }
 
     /*
@@ -657,7 +833,7 @@ public class FluxTSeq<T> implements FluxT<T> {
     @Override
     public FluxTSeq<T> dropWhile(Predicate<? super T> p) {
 
-        return (FluxTSeq<T>) FluxT.super.dropWhile(p);
+        return skipWhile(p);
     }
 
     /*
@@ -670,7 +846,7 @@ public class FluxTSeq<T> implements FluxT<T> {
     @Override
     public FluxTSeq<T> takeUntil(Predicate<? super T> p) {
 
-        return (FluxTSeq<T>) FluxT.super.takeUntil(p);
+        return limitUntil(p);
     }
 
     /*
@@ -683,7 +859,7 @@ public class FluxTSeq<T> implements FluxT<T> {
     @Override
     public FluxTSeq<T> dropUntil(Predicate<? super T> p) {
 
-        return (FluxTSeq<T>) FluxT.super.dropUntil(p);
+        return skipUntil(p);
     }
 
     /*
@@ -695,7 +871,7 @@ public class FluxTSeq<T> implements FluxT<T> {
     @Override
     public FluxTSeq<T> dropRight(int num) {
 
-        return (FluxTSeq<T>) FluxT.super.dropRight(num);
+        return skipLast(num);
     }
 
     /*
@@ -707,7 +883,7 @@ public class FluxTSeq<T> implements FluxT<T> {
     @Override
     public FluxTSeq<T> takeRight(int num) {
 
-        return (FluxTSeq<T>) FluxT.super.takeRight(num);
+        return limitLast(num);
     }
 
     /*
@@ -718,7 +894,7 @@ public class FluxTSeq<T> implements FluxT<T> {
     @Override
     public FluxTSeq<T> skip(long num) {
 
-        return (FluxTSeq<T>) FluxT.super.skip(num);
+        return of(run.map(flux -> flux.skip(num)));
     }
 
     /*
@@ -731,7 +907,7 @@ public class FluxTSeq<T> implements FluxT<T> {
     @Override
     public FluxTSeq<T> skipWhile(Predicate<? super T> p) {
 
-        return (FluxTSeq<T>) FluxT.super.skipWhile(p);
+        return of(run.map(flux -> flux.skipWhile(p)));
     }
 
     /*
@@ -744,7 +920,7 @@ public class FluxTSeq<T> implements FluxT<T> {
     @Override
     public FluxTSeq<T> skipUntil(Predicate<? super T> p) {
 
-        return (FluxTSeq<T>) FluxT.super.skipUntil(p);
+        return skipWhile(p.negate());
     }
 
     /*
@@ -755,7 +931,7 @@ public class FluxTSeq<T> implements FluxT<T> {
     @Override
     public FluxTSeq<T> limit(long num) {
 
-        return (FluxTSeq<T>) FluxT.super.limit(num);
+        return of(run.map(flux -> flux.take(num)));
     }
 
     /*
@@ -768,7 +944,7 @@ public class FluxTSeq<T> implements FluxT<T> {
     @Override
     public FluxTSeq<T> limitWhile(Predicate<? super T> p) {
 
-        return (FluxTSeq<T>) FluxT.super.limitWhile(p);
+        return of(run.map(flux -> flux.takeWhile(p)));
     }
 
     /*
@@ -781,7 +957,7 @@ public class FluxTSeq<T> implements FluxT<T> {
     @Override
     public FluxTSeq<T> limitUntil(Predicate<? super T> p) {
 
-        return (FluxTSeq<T>) FluxT.super.limitUntil(p);
+        return limitWhile(p.negate());
     }
 
     /*
@@ -828,7 +1004,7 @@ public class FluxTSeq<T> implements FluxT<T> {
     @Override
     public FluxTSeq<T> skipLast(int num) {
 
-        return (FluxTSeq<T>) FluxT.super.skipLast(num);
+        return of(run.map(flux -> flux.skipLast(num)));
     }
 
     /*
@@ -840,7 +1016,7 @@ public class FluxTSeq<T> implements FluxT<T> {
     @Override
     public FluxTSeq<T> limitLast(int num) {
 
-        return (FluxTSeq<T>) FluxT.super.limitLast(num);
+        return of(run.map(flux -> flux.takeLast(num)));
     }
 
     /*
@@ -853,7 +1029,7 @@ public class FluxTSeq<T> implements FluxT<T> {
     @Override
     public FluxTSeq<T> onEmpty(T value) {
 
-        return (FluxTSeq<T>) FluxT.super.onEmpty(value);
+        return of(run.map(flux -> flux.defaultIfEmpty(value)));
     }
 
     /*
@@ -919,6 +1095,58 @@ public class FluxTSeq<T> implements FluxT<T> {
         return (FluxTSeq) FluxT.super.sorted(function);
     }
 
+    /**
+     * Overlapping windows over a single Flux, built on {@link Flux#buffer(int, int)}. Only valid when increment &lt;=
+     * windowSize, Reactor skips the elements between windows otherwise where {@link ReactiveSeq#sliding(int, int)}
+     * does not.
+     * 
+     * Reactor emits trailing partial buffers for every remaining offset, windows whose contents are already
+     * covered by the previous window are dropped to match the semantics of {@link ReactiveSeq#sliding(int, int)}
+     */
+    private static <T> Flux<ListX<T>> sliding(Flux<T> flux, int windowSize, int increment) {
+        return Flux.defer(() -> {
+            final int[] previousSize = { -1 };
+            return flux.buffer(windowSize, increment)
+                       .filter(window -> {
+                           boolean covered = previousSize[0] - increment >= window.size();
+                           previousSize[0] = window.size();
+                           return !covered;
+                       })
+                       .map(ListX::fromIterable);
+        });
+    }
+
+    /**
+     * Batch a single Flux into Collections, closing each batch (inclusively) on the first element that passes the
+     * supplied predicate. Any open batch is emitted when the Flux completes.
+     */
+    private static <T, C extends Collection<? super T>> Flux<C> bufferUntil(Flux<T> flux, Predicate<? super T> predicate,
+            Supplier<C> factory) {
+        return Flux.defer(() -> {
+            final List<C> open = new ArrayList<>(1);
+            return flux.concatMapIterable(next -> {
+                if (open.isEmpty())
+                    open.add(factory.get());
+                open.get(0)
+                    .add(next);
+                if (!predicate.test(next))
+                    return Collections.<C> emptyList();
+                return Collections.singletonList(open.remove(0));
+            })
+                       .concatWith(Flux.defer(() -> Flux.fromIterable(open)));
+        });
+    }
+
+    /**
+     * Flat Map a single Flux with bounded concurrency, emitting inner results in the order of the source elements.
+     * Reactor 2.5 has no concatMapEager / flatMapSequential operator, see {@link FluxConcatMapEager}
+     */
+    static <T, B> Flux<B> flatMapSequential(Flux<T> flux, Function<? super T, ? extends Flux<? extends B>> f,
+            int maxConcurrency, int prefetch) {
+        return Flux.from(new FluxConcatMapEager<T, B>(
+                                                      flux, f, maxConcurrency, prefetch));
+    }
+
     @Override
     public int hashCode() {
         return run.hashCode();
@@ -8,6 +8,7 @@ import java.util.function.Predicate;
 
 import com.aol.cyclops.control.AnyM;
 import com.aol.cyclops.control.ReactiveSeq;
+import com.aol.cyclops.reactor.Reactor;
 import com.aol.cyclops.types.IterableFoldable;
 import com.aol.cyclops.types.MonadicValue;
 import com.aol.cyclops.types.Traversable;
@@ -15,6 +16,7 @@ import com.aol.cyclops.types.anyM.AnyMValue;
 import com.aol.cyclops.types.stream.CyclopsCollectable;
 
 import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Scheduler;
 
 /**
  * Monad Transformer for Cyclops Streams
@@ -126,6 +128,49 @@ public class FluxTValue<T> implements FluxT<T> {
                                           .<B> flatMap(a -> a)));
     }
 
+    /**
+     * Flat Map the wrapped Stream, subscribing to at most maxConcurrency of the resulting Fluxs at once
+     * 
+     * @param f FlatMap function
+     * @param maxConcurrency Maximum number of inner Fluxs subscribed to at once
+     * @param prefetch Number of elements requested from each inner Flux at a time
+     * @return FluxT that applies the flatMap function to the wrapped Stream with bounded concurrency
+     */
+    public <B> FluxTValue<B> flatMapT(Function<? super T, FluxTValue<? extends B>> f, int maxConcurrency,
+            int prefetch) {
+        return of(run.map(stream -> stream.concatMap(a -> Flux.from(f.apply(a).run.stream()))
+                                          .<B> flatMap(a -> a, maxConcurrency, prefetch)));
+    }
+
+    /**
+     * Flat Map the wrapped Stream, subscribing to the resulting Fluxs one at a time so that results keep the order of
+     * the source elements
+     * 
+     * @param f FlatMap function
+     * @return FluxT that applies the flatMap function to the wrapped Stream sequentially
+     */
+    public <B> FluxTValue<B> concatMapT(Function<? super T, FluxTValue<? extends B>> f) {
+        return of(run.map(stream -> stream.concatMap(a -> Flux.from(f.apply(a).run.stream()))
+                                          .<B> concatMap(a -> a)));
+    }
+
+    /**
+     * Flat Map the wrapped Stream, subscribing to at most maxConcurrency of the resulting Fluxs at once and emitting
+     * their results in the order of the source elements
+     * 
+     * @param f FlatMap function
+     * @param maxConcurrency Maximum number of inner Fluxs subscribed to at once
+     * @param prefetch Number of elements requested from, and buffered for, each inner Flux at a time
+     * @return FluxT that applies the flatMap function to the wrapped Stream with bounded concurrency, in order
+     */
+    public <B> FluxTValue<B> flatMapSequentialT(Function<? super T, FluxTValue<? extends B>> f, int maxConcurrency,
+            int prefetch) {
+        return of(run.map(stream -> {
+            Flux<Flux<? extends B>> inners = stream.concatMap(a -> Flux.from(f.apply(a).run.stream()));
+            return FluxTSeq.flatMapSequential(inners, a -> a, maxConcurrency, prefetch);
+        }));
+    }
+
     public <B> FluxTValue<B> flatMap(Function<? super T, ? extends Flux<? extends B>> f) {
 
         return new FluxTValue<B>(
@@ -133,6 +178,67 @@ public class FluxTValue<T> implements FluxT<T> {
 
     }
 
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.aol.cyclops.reactor.transformer.FluxT#flatMap(java.util.function.Function, int, int)
+     */
+    @Override
+    public <B> FluxTValue<B> flatMap(Function<? super T, ? extends Flux<? extends B>> f, int maxConcurrency,
+            int prefetch) {
+
+        return new FluxTValue<B>(
+                                 run.map(o -> o.flatMap(f, maxConcurrency, prefetch)));
+
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.aol.cyclops.reactor.transformer.FluxT#concatMap(java.util.function.Function)
+     */
+    @Override
+    public <B> FluxTValue<B> concatMap(Function<? super T, ? extends Flux<? extends B>> f) {
+
+        return new FluxTValue<B>(
+                                 run.map(o -> o.concatMap(f)));
+
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.aol.cyclops.reactor.transformer.FluxT#flatMapSequential(java.util.function.Function, int, int)
+     */
+    @Override
+    public <B> FluxTValue<B> flatMapSequential(Function<? super T, ? extends Flux<? extends B>> f, int maxConcurrency,
+            int prefetch) {
+
+        return new FluxTValue<B>(
+                                 run.map(o -> FluxTSeq.flatMapSequential(o, f, maxConcurrency, prefetch)));
+
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.aol.cyclops.reactor.transformer.FluxT#publishOn(reactor.core.scheduler.Scheduler)
+     */
+    @Override
+    public FluxTValue<T> publishOn(Scheduler scheduler) {
+        return of(run.map(flux -> flux.publishOn(scheduler)));
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.aol.cyclops.reactor.transformer.FluxT#subscribeOn(reactor.core.scheduler.Scheduler)
+     */
+    @Override
+    public FluxTValue<T> subscribeOn(Scheduler scheduler) {
+        return of(run.map(flux -> flux.subscribeOn(scheduler)));
+    }
+
     /**
      * Lift a function into one that accepts and returns an FluxT
      * This allows multiple monad types to add functionality to existing functions and methods
@@ -244,7 +350,7 @@ public class FluxTValue<T> implements FluxT<T> {
 
     @Override
     public ReactiveSeq<T> stream() {
-        return run.map(i -> ReactiveSeq.fromPublisher(i))
+        return run.map(i -> Reactor.reactiveSeq(i))
                   .stream()
                   .flatMap(e -> e);
     }
@@ -265,13 +371,13 @@ public class FluxTValue<T> implements FluxT<T> {
 
     @Override
     public AnyM<? extends IterableFoldable<T>> nestedFoldables() {
-        return run.map(i -> ReactiveSeq.fromPublisher(i));
+        return run.map(i -> Reactor.reactiveSeq(i));
 
     }
 
     @Override
     public AnyM<? extends CyclopsCollectable<T>> nestedCollectables() {
-        return run.map(i -> ReactiveSeq.fromPublisher(i));
+        return run.map(i -> Reactor.reactiveSeq(i));
 
     }
 
@@ -283,7 +389,7 @@ public class FluxTValue<T> implements FluxT<T> {
 
     @Override
     public AnyM<? extends Traversable<T>> transformerStream() {
-        return run.map(i -> ReactiveSeq.fromPublisher(i));
+        return run.map(i -> Reactor.reactiveSeq(i));
     }
 
     @Override
@@ -3,28 +3,50 @@ package com.aol.cyclops.reactor;
 import static com.aol.cyclops.control.Streamable.fromStream;
 import static java.util.stream.Stream.concat;
 import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.jooq.lambda.tuple.Tuple;
 import org.jooq.lambda.tuple.Tuple2;
 import org.junit.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
 
+import com.aol.cyclops.control.AnyM;
+import com.aol.cyclops.control.Eval;
 import com.aol.cyclops.control.FutureW;
 import com.aol.cyclops.control.ReactiveSeq;
 import com.aol.cyclops.control.monads.transformers.ListT;
 import com.aol.cyclops.control.monads.transformers.seq.ListTSeq;
 import com.aol.cyclops.data.collections.extensions.standard.ListX;
 import com.aol.cyclops.data.collections.extensions.standard.SetX;
+import com.aol.cyclops.internal.comprehensions.comprehenders.CompletableFutureComprehender;
+import com.aol.cyclops.internal.comprehensions.comprehenders.EvalComprehender;
+import com.aol.cyclops.internal.comprehensions.comprehenders.FutureFunctorComprehender;
+import com.aol.cyclops.internal.comprehensions.comprehenders.StreamComprehender;
 import com.aol.cyclops.reactor.Reactor.ForFlux;
 import com.aol.cyclops.reactor.Reactor.ForFluxTransformer;
+import com.aol.cyclops.reactor.comprehenders.FluxComprehender;
+import com.aol.cyclops.reactor.comprehenders.MonoComprehender;
 import com.aol.cyclops.reactor.transformer.FluxT;
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
 public class ReactorTest {
 
@@ -148,4 +170,485 @@ public class ReactorTest {
         Mono<Integer> result = Reactor.ForMono.each2(Mono.just(10), a -> Mono.<Integer> just(a + 10), (a, b) -> a + b);
         assertThat(result.block(), equalTo(30));
     }
+
+    @Test
+    public void fluxIntoFutureW() {
+        FutureW<Integer> result = AnyM.fromFutureW(FutureW.ofResult(10))
+                                      .<Integer> bind(a -> Flux.just(a + 10))
+                                      .unwrap();
+        assertThat(result.get(), equalTo(20));
+    }
+
+    @Test
+    public void fluxIntoFutureWDoesNotBlock() {
+        FutureW<Integer> result = AnyM.fromFutureW(FutureW.ofResult(10))
+                                      .<Integer> bind(a -> Flux.never())
+                                      .unwrap();
+        assertFalse(result.getFuture()
+                         .isDone());
+    }
+
+    @Test
+    public void emptyFluxIntoCompletableFuture() {
+        CompletableFuture<Integer> result = AnyM.fromCompletableFuture(CompletableFuture.completedFuture(10))
+                                                .<Integer> bind(a -> Flux.empty())
+                                                .unwrap();
+        CompletableFuture<Integer> empty = AnyM.fromCompletableFuture(CompletableFuture.completedFuture(10))
+                                               .<Integer> bind(a -> Optional.empty())
+                                               .unwrap();
+        assertTrue(result.isDone());
+        assertThat(result.isCompletedExceptionally(), equalTo(empty.isCompletedExceptionally()));
+    }
+
+    @Test
+    public void fluxIntoStreamIsLazy() {
+        int[] subscribed = { 0 };
+        ReactiveSeq<Integer> result = AnyM.fromStream(Stream.of(1))
+                                          .<Integer> bind(a -> Flux.defer(() -> {
+                                              subscribed[0]++;
+                                              return Flux.just(a);
+                                          }))
+                                          .stream();
+        assertThat(subscribed[0], equalTo(0));
+        assertThat(result.toListX(), equalTo(ListX.of(1)));
+    }
+
+    @Test
+    public void fluxResolveWithoutTargetClass() {
+        StreamComprehender noTarget = new StreamComprehender() {
+            @Override
+            public Class getTargetClass() {
+                return null;
+            }
+        };
+        Stream<Integer> resolved = (Stream<Integer>) new FluxComprehender().resolveForCrossTypeFlatMap(noTarget,
+                                                                                                      Flux.just(1, 2, 3));
+        assertThat(resolved.collect(Collectors.toList()), equalTo(Arrays.asList(1, 2, 3)));
+    }
+
+    @Test
+    public void fluxIntoStream() {
+        assertThat(AnyM.fromStream(Stream.of(1, 2))
+                       .<Integer> bind(a -> Flux.just(a, a * 10))
+                       .toListX(),
+                   equalTo(ListX.of(1, 10, 2, 20)));
+    }
+
+    @Test
+    public void monoFilter() {
+        Mono<Integer> result = Reactor.mono(Mono.just(10))
+                                      .filter(i -> i > 5)
+                                      .unwrap();
+        assertThat(result.block(), equalTo(10));
+    }
+
+    @Test
+    public void monoIntoFutureWDoesNotBlock() {
+        FutureW<Integer> result = AnyM.fromFutureW(FutureW.ofResult(10))
+                                      .<Integer> bind(a -> Mono.never())
+                                      .unwrap();
+        assertFalse(result.getFuture()
+                          .isDone());
+    }
+
+    @Test
+    public void monoIntoEval() {
+        Eval<Integer> result = AnyM.fromEval(Eval.now(10))
+                                   .<Integer> bind(a -> Mono.just(a + 10))
+                                   .unwrap();
+        assertThat(result.get(), equalTo(20));
+    }
+
+    @Test
+    public void emptyMonoIntoCompletableFuture() {
+        CompletableFutureComprehender target = new CompletableFutureComprehender() {
+            @Override
+            public CompletableFuture empty() {
+                return CompletableFuture.completedFuture(-1);
+            }
+        };
+        MonoComprehender comp = new MonoComprehender();
+        CompletableFuture<Integer> result = (CompletableFuture<Integer>) comp.resolveForCrossTypeFlatMap(target,
+                                                                                                         Mono.empty());
+        assertThat(result.join(), equalTo(-1));
+    }
+
+    @Test
+    public void emptyMonoIntoFutureW() {
+        FutureFunctorComprehender target = new FutureFunctorComprehender() {
+            @Override
+            public FutureW empty() {
+                return FutureW.ofResult(-1);
+            }
+        };
+        FutureW<Integer> result = (FutureW<Integer>) new MonoComprehender().resolveForCrossTypeFlatMap(target,
+                                                                                                     Mono.empty());
+        assertThat(result.get(), equalTo(-1));
+    }
+
+    @Test
+    public void emptyMonoIntoEval() {
+        EvalComprehender target = new EvalComprehender() {
+            @Override
+            public Eval empty() {
+                return Eval.now(-1);
+            }
+        };
+        Eval<Integer> result = (Eval<Integer>) new MonoComprehender().resolveForCrossTypeFlatMap(target, Mono.empty());
+        assertThat(result.get(), equalTo(-1));
+    }
+
+    @Test
+    public void monoIntoStream() {
+        assertThat(AnyM.fromStream(Stream.of(1, 2))
+                       .<Integer> bind(a -> a == 1 ? Mono.<Integer> empty() : Mono.just(a * 10))
+                       .toListX(),
+                   equalTo(ListX.of(20)));
+    }
+
+    @Test
+    public void fluxTFlatMapBounded() {
+        assertThat(FluxT.fromIterable(ListX.of(Flux.just(1, 2, 3)))
+                        .flatMap(i -> Flux.just(i * 10), 2, 8)
+                        .toListX()
+                        .size(),
+                   equalTo(3));
+    }
+
+    @Test
+    public void fluxTConcatMap() {
+        assertThat(FluxT.fromIterable(ListX.of(Flux.just(1, 2, 3)))
+                        .concatMap(i -> Flux.just(i, i * 10))
+                        .toListX(),
+                   equalTo(ListX.of(1, 10, 2, 20, 3, 30)));
+    }
+
+    @Test
+    public void fluxTFlatMapSequential() {
+        Scheduler scheduler = Schedulers.newParallel("fluxT-sequential");
+        CountDownLatch lastSubscribed = new CountDownLatch(1);
+        Flux<Integer> slow = Flux.from(Mono.fromCallable(() -> lastSubscribed.await(5, TimeUnit.SECONDS) ? 1 : -1)
+                                           .subscribeOn(scheduler));
+        Flux<Integer> fast = Flux.defer(() -> {
+            lastSubscribed.countDown();
+            return Flux.just(2);
+        });
+        assertThat(FluxT.fromIterable(ListX.of(Flux.just(1, 2)))
+                        .flatMapSequential(i -> i == 1 ? slow : fast, 2, 8)
+                        .unwrap()
+                        .toListX()
+                        .flatMap(flux -> flux.collectList()
+                                             .block()),
+                   equalTo(ListX.of(1, 2)));
+        scheduler.shutdown();
+    }
+
+    @Test
+    public void fluxTFlatMapSequentialInfiniteHead() {
+        assertThat(FluxT.fromIterable(ListX.of(Flux.just(1, 2)))
+                        .flatMapSequential(i -> Flux.range(i * 100, Integer.MAX_VALUE - 200), 2, 8)
+                        .unwrap()
+                        .toListX()
+                        .flatMap(flux -> flux.take(20)
+                                             .collectList()
+                                             .block()),
+                   equalTo(ListX.range(100, 120)));
+    }
+
+    @Test
+    public void fluxTFlatMapSequentialEmpty() {
+        assertThat(FluxT.fromIterable(ListX.of(Flux.<Integer> empty()))
+                        .flatMapSequential(i -> Flux.just(i), 2, 8)
+                        .toListX(),
+                   equalTo(ListX.empty()));
+        assertThat(FluxT.fromIterable(ListX.of(Flux.just(1, 2, 3)))
+                        .flatMapSequential(i -> i == 2 ? Flux.<Integer> empty() : Flux.just(i, i), 1, 1)
+                        .toListX(),
+                   equalTo(ListX.of(1, 1, 3, 3)));
+    }
+
+    @Test
+    public void fluxTFlatMapSequentialCancel() {
+        boolean[] sourceCancelled = { false };
+        int[] innersCancelled = { 0 };
+        Flux<Integer> source = Flux.range(1, 10)
+                                   .doOnCancel(() -> sourceCancelled[0] = true);
+        Flux<Integer> flux = FluxT.fromIterable(ListX.of(source))
+                                  .flatMapSequential(i -> Flux.range(i * 100, 1000)
+                                                              .doOnCancel(() -> innersCancelled[0]++),
+                                                     2, 8)
+                                  .unwrap()
+                                  .toListX()
+                                  .get(0);
+        RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>(
+                                                                            3);
+        flux.subscribe(subscriber);
+        assertThat(subscriber.values, equalTo(Arrays.asList(100, 101, 102)));
+        subscriber.subscription.cancel();
+        assertTrue(sourceCancelled[0]);
+        assertThat(innersCancelled[0], equalTo(2));
+        assertFalse(subscriber.completed);
+    }
+
+    @Test
+    public void fluxTFlatMapSequentialInnerError() {
+        boolean[] sourceCancelled = { false };
+        Flux<Integer> source = Flux.range(1, 3)
+                                   .doOnCancel(() -> sourceCancelled[0] = true);
+        Flux<Integer> flux = FluxT.fromIterable(ListX.of(source))
+                                  .flatMapSequential(i -> i == 2 ? Flux.<Integer> error(new IllegalStateException())
+                                          : Flux.just(i, i * 10), 2, 8)
+                                  .unwrap()
+                                  .toListX()
+                                  .get(0);
+        RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>(
+                                                                            Long.MAX_VALUE);
+        flux.subscribe(subscriber);
+        assertThat(subscriber.values, equalTo(Arrays.asList(1, 10)));
+        assertTrue(subscriber.error instanceof IllegalStateException);
+        assertTrue(sourceCancelled[0]);
+        assertFalse(subscriber.completed);
+    }
+
+    @Test
+    public void fluxTFlatMapSequentialBackpressure() {
+        List<Long> sourceRequests = new ArrayList<>();
+        List<Long> innerRequests = new ArrayList<>();
+        Flux<Integer> source = Flux.range(1, 5)
+                                   .doOnRequest(sourceRequests::add);
+        Flux<Integer> flux = FluxT.fromIterable(ListX.of(source))
+                                  .flatMapSequential(i -> Flux.range(i * 100, 100)
+                                                              .doOnRequest(innerRequests::add),
+                                                     2, 8)
+                                  .unwrap()
+                                  .toListX()
+                                  .get(0);
+        RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>(
+                                                                            0);
+        flux.subscribe(subscriber);
+        assertTrue(subscriber.values.isEmpty());
+        assertThat(sourceRequests, equalTo(Arrays.asList(2L)));
+        assertThat(innerRequests, equalTo(Arrays.asList(8L, 8L)));
+        subscriber.subscription.request(5);
+        assertThat(subscriber.values, equalTo(ListX.range(100, 105)));
+        subscriber.subscription.request(3);
+        assertThat(subscriber.values, equalTo(ListX.range(100, 108)));
+        assertThat(innerRequests, equalTo(Arrays.asList(8L, 8L, 6L)));
+        assertThat(sourceRequests, equalTo(Arrays.asList(2L)));
+    }
+
+    @Test
+    public void fluxTFlatMapTBounded() {
+        assertThat(FluxT.fromIterable(ListX.of(Flux.just(1, 2, 3)))
+                        .flatMapT(i -> FluxT.fromIterable(ListX.of(Flux.just(i, i * 10))), 2, 8)
+                        .toListX()
+                        .sorted(),
+                   equalTo(ListX.of(1, 2, 3, 10, 20, 30)));
+    }
+
+    @Test
+    public void fluxTConcatMapT() {
+        assertThat(FluxT.fromIterable(ListX.of(Flux.just(1, 2, 3)))
+                        .concatMapT(i -> FluxT.fromIterable(ListX.of(Flux.just(i, i * 10))))
+                        .toListX(),
+                   equalTo(ListX.of(1, 10, 2, 20, 3, 30)));
+    }
+
+    @Test
+    public void fluxTFlatMapSequentialT() {
+        assertThat(FluxT.fromIterable(ListX.of(Flux.just(1, 2, 3)))
+                        .flatMapSequentialT(i -> FluxT.fromIterable(ListX.of(Flux.just(i, i * 10))), 2, 8)
+                        .toListX(),
+                   equalTo(ListX.of(1, 10, 2, 20, 3, 30)));
+    }
+
+    @Test
+    public void fluxTPublishOn() {
+        Scheduler scheduler = Schedulers.newParallel("fluxT-test");
+        assertThat(FluxT.fromIterable(ListX.of(Flux.just(1, 2), Flux.just(3)))
+                        .publishOn(scheduler)
+                        .map(i -> Thread.currentThread()
+                                        .getName()
+                                        .startsWith("fluxT-test"))
+                        .toListX(),
+                   equalTo(ListX.of(true, true, true)));
+        scheduler.shutdown();
+    }
+
+    @Test
+    public void fluxTSubscribeOn() {
+        Scheduler scheduler = Schedulers.newParallel("fluxT-test");
+        assertThat(FluxT.fromIterable(ListX.of(Flux.just(1, 2), Flux.just(3)))
+                        .subscribeOn(scheduler)
+                        .map(i -> Thread.currentThread()
+                                        .getName()
+                                        .startsWith("fluxT-test"))
+                        .toListX(),
+                   equalTo(ListX.of(true, true, true)));
+        scheduler.shutdown();
+    }
+
+    @Test
+    public void fluxTPublishOnStream() {
+        Scheduler scheduler = Schedulers.newParallel("fluxT-test");
+        assertThat(FluxT.fromIterable(ListX.of(Flux.range(1, 1000), Flux.range(1001, 1000)))
+                        .publishOn(scheduler)
+                        .toListX(),
+                   equalTo(ListX.range(1, 2001)));
+        scheduler.shutdown();
+    }
+
+    @Test
+    public void fluxTSubscribeOnStream() {
+        Scheduler scheduler = Schedulers.newParallel("fluxT-test");
+        assertThat(FluxT.fromIterable(ListX.of(Flux.range(1, 1000), Flux.range(1001, 1000)))
+                        .subscribeOn(scheduler)
+                        .toListX(),
+                   equalTo(ListX.range(1, 2001)));
+        scheduler.shutdown();
+    }
+
+    @Test
+    public void fluxTMergedStream() {
+        Scheduler scheduler = Schedulers.newParallel("fluxT-merged");
+        CountDownLatch firstConsumed = new CountDownLatch(1);
+        Flux<Integer> slow = Flux.from(Mono.fromCallable(() -> firstConsumed.await(5, TimeUnit.SECONDS) ? 1 : -1)
+                                           .subscribeOn(scheduler));
+        Iterator<Integer> merged = FluxT.fromIterable(ListX.of(slow, Flux.just(2)))
+                                        .mergedStream(2, 8)
+                                        .iterator();
+        assertThat(merged.next(), equalTo(2));
+        firstConsumed.countDown();
+        assertThat(merged.next(), equalTo(1));
+        assertFalse(merged.hasNext());
+        scheduler.shutdown();
+    }
+
+    @Test
+    public void fluxTOrderedMergedStream() {
+        Scheduler scheduler = Schedulers.newParallel("fluxT-merged");
+        CountDownLatch lastSubscribed = new CountDownLatch(1);
+        Flux<Integer> slow = Flux.from(Mono.fromCallable(() -> lastSubscribed.await(5, TimeUnit.SECONDS) ? 1 : -1)
+                                           .subscribeOn(scheduler));
+        Flux<Integer> fast = Flux.defer(() -> {
+            lastSubscribed.countDown();
+            return Flux.just(2);
+        });
+        assertThat(FluxT.fromIterable(ListX.of(slow, fast))
+                        .orderedMergedStream(2, 8)
+                        .toListX(),
+                   equalTo(ListX.of(1, 2)));
+        scheduler.shutdown();
+    }
+
+    private static FluxT<Integer> range(int start, int end) {
+        return FluxT.fromIterable(ListX.of(Flux.range(start, end - start)));
+    }
+
+    @Test
+    public void fluxTSliding() {
+        assertThat(range(1, 6).sliding(3, 1)
+                              .toListX(),
+                   equalTo(ReactiveSeq.range(1, 6)
+                                      .sliding(3, 1)
+                                      .toListX()));
+        assertThat(range(1, 6).sliding(2, 2)
+                              .toListX(),
+                   equalTo(ReactiveSeq.range(1, 6)
+                                      .sliding(2, 2)
+                                      .toListX()));
+        assertThat(range(1, 8).sliding(2, 3)
+                              .toListX(),
+                   equalTo(ReactiveSeq.range(1, 8)
+                                      .sliding(2, 3)
+                                      .toListX()));
+        assertThat(range(1, 1).sliding(2, 1)
+                              .toListX(),
+                   equalTo(ListX.empty()));
+    }
+
+    @Test
+    public void fluxTGroupedUntilAndWhile() {
+        assertThat(range(1, 8).groupedUntil(i -> i % 3 == 0)
+                              .toListX(),
+                   equalTo(ListX.of(ListX.of(1, 2, 3), ListX.of(4, 5, 6), ListX.of(7))));
+        assertThat(range(1, 7).groupedUntil(i -> i % 3 == 0)
+                              .toListX(),
+                   equalTo(ListX.of(ListX.of(1, 2, 3), ListX.of(4, 5, 6))));
+        assertThat(range(1, 8).groupedWhile(i -> i % 3 != 0)
+                              .toListX(),
+                   equalTo(ReactiveSeq.range(1, 8)
+                                      .groupedWhile(i -> i % 3 != 0)
+                                      .toListX()));
+        assertThat(range(1, 1).groupedUntil(i -> true)
+                              .toListX(),
+                   equalTo(ListX.empty()));
+    }
+
+    @Test
+    public void fluxTGroupedUntilIsolatesSubscriptions() {
+        FluxT<ListX<Integer>> grouped = range(1, 5).groupedUntil(i -> i == 2);
+        assertThat(grouped.toListX(), equalTo(ListX.of(ListX.of(1, 2), ListX.of(3, 4))));
+        assertThat(grouped.toListX(), equalTo(ListX.of(ListX.of(1, 2), ListX.of(3, 4))));
+    }
+
+    @Test
+    public void fluxTZipWithIndex() {
+        assertThat(FluxT.fromIterable(ListX.of(Flux.just("a", "b")))
+                        .zipWithIndex()
+                        .toListX(),
+                   equalTo(ListX.of(Tuple.tuple("a", 0L), Tuple.tuple("b", 1L))));
+        assertThat(range(1, 1).zipWithIndex()
+                              .toListX(),
+                   equalTo(ListX.empty()));
+    }
+
+    @Test
+    public void fluxTScanLeft() {
+        assertThat(range(1, 4).scanLeft(0, (a, b) -> a + b)
+                              .toListX(),
+                   equalTo(ReactiveSeq.range(1, 4)
+                                      .scanLeft(0, (a, b) -> a + b)
+                                      .toListX()));
+        assertThat(range(1, 1).scanLeft(0, (a, b) -> a + b)
+                              .toListX(),
+                   equalTo(ListX.of(0)));
+    }
+
+    /**
+     * Subscriber that records every signal, requesting initialRequest elements on subscription
+     */
+    private static class RecordingSubscriber<T> implements Subscriber<T> {
+        private final long initialRequest;
+        final List<T> values = new ArrayList<>();
+        Throwable error;
+        boolean completed;
+        Subscription subscription;
+
+        RecordingSubscriber(long initialRequest) {
+            this.initialRequest = initialRequest;
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            subscription = s;
+            if (initialRequest > 0)
+                s.request(initialRequest);
+        }
+
+        @Override
+        public void onNext(T t) {
+            values.add(t);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            error = t;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
 }
@@ -0,0 +1,186 @@
+package com.aol.cyclops.rx;
+
+import java.util.NoSuchElementException;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import rx.Observable;
+import rx.Single;
+import rx.subscriptions.Subscriptions;
+
+/**
+ * Direct conversions between Reactor and RxJava types.
+ *
+ * Each conversion is a single adapter between the Reactive Streams Subscriber / Subscription and the Rx
+ * Subscriber / Producer, passing requests and cancellation straight through. Unlike
+ * {@link RxCyclops#publisher(Observable)} followed by {@link Flux#from(Publisher)}, there is no intermediate
+ * ReactiveSeq or additional subscriber wrapper per hop.
+ *
+ * reactor-core is an optional dependency of cyclops-rx and must be on the classpath to use this class.
+ *
+ * <pre>
+ * {@code
+ *  Observable<Integer> observable = ReactorRx.observable(Flux.just(1,2,3));
+ *  Flux<Integer> flux = ReactorRx.flux(Observable.just(1,2,3));
+ * }
+ * </pre>
+ */
+public interface ReactorRx {
+
+    /**
+     * Convert a Flux (or any other Publisher) into an Observable. Rx backpressure requests are forwarded to
+     * the Publisher's Subscription, and unsubscribing cancels it.
+     *
+     * @param publisher Flux to convert
+     * @return Observable that emits the elements of the Flux
+     */
+    public static <T> Observable<T> observable(Publisher<T> publisher) {
+        return Observable.create(subscriber -> publisher.subscribe(new Subscriber<T>() {
+
+            @Override
+            public void onSubscribe(Subscription s) {
+                subscriber.add(Subscriptions.create(s::cancel));
+                subscriber.setProducer(n -> {
+                    if (n > 0)
+                        s.request(n);
+                });
+            }
+
+            @Override
+            public void onNext(T t) {
+                subscriber.onNext(t);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                subscriber.onError(t);
+            }
+
+            @Override
+            public void onComplete() {
+                subscriber.onCompleted();
+            }
+        }));
+    }
+
+    /**
+     * Convert a Mono into an Observable of at most one element
+     *
+     * @param mono Mono to convert
+     * @return Observable that emits the value of the Mono, if any
+     */
+    public static <T> Observable<T> observable(Mono<T> mono) {
+        return observable((Publisher<T>) mono);
+    }
+
+    /**
+     * Convert a Mono into a Single. An empty Mono results in a Single that fails with a
+     * NoSuchElementException.
+     *
+     * @param mono Mono to convert
+     * @return Single that emits the value of the Mono
+     */
+    public static <T> Single<T> single(Mono<T> mono) {
+        return Single.create(subscriber -> mono.subscribe(new Subscriber<T>() {
+            boolean done;
+
+            @Override
+            public void onSubscribe(Subscription s) {
+                subscriber.add(Subscriptions.create(s::cancel));
+                s.request(1);
+            }
+
+            @Override
+            public void onNext(T t) {
+                done = true;
+                subscriber.onSuccess(t);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                subscriber.onError(t);
+            }
+
+            @Override
+            public void onComplete() {
+                if (!done)
+                    subscriber.onError(new NoSuchElementException("Mono completed without a value"));
+            }
+        }));
+    }
+
+    /**
+     * Convert an Observable into a Flux. Requests from the Flux's Subscriber are forwarded to the Observable's
+     * Producer, and cancelling the Subscription unsubscribes from the Observable.
+     *
+     * @param observable Observable to convert
+     * @return Flux that emits the elements of the Observable
+     */
+    public static <T> Flux<T> flux(Observable<T> observable) {
+        return Flux.from(subscriber -> {
+            RequestingSubscriber<T> rxSubscriber = new RequestingSubscriber<>(subscriber);
+            subscriber.onSubscribe(new Subscription() {
+
+                @Override
+                public void request(long n) {
+                    if (n <= 0) {
+                        rxSubscriber.unsubscribe();
+                        subscriber.onError(new IllegalArgumentException("Requested " + n + " elements, requests must be positive"));
+                    } else
+                        rxSubscriber.requestMore(n);
+                }
+
+                @Override
+                public void cancel() {
+                    rxSubscriber.unsubscribe();
+                }
+            });
+            observable.unsafeSubscribe(rxSubscriber);
+        });
+    }
+
+    /**
+     * Convert a Single into a Mono
+     *
+     * @param single Single to convert
+     * @return Mono that emits the value of the Single
+     */
+    public static <T> Mono<T> mono(Single<T> single) {
+        return Mono.from(flux(single.toObservable()));
+    }
+
+    /**
+     * Rx Subscriber that only requests elements when asked to by the downstream Reactive Streams Subscriber
+     */
+    static class RequestingSubscriber<T> extends rx.Subscriber<T> {
+        private final Subscriber<? super T> subscriber;
+
+        RequestingSubscriber(Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+            request(0);
+        }
+
+        void requestMore(long n) {
+            request(n);
+        }
+
+        @Override
+        public void onNext(T t) {
+            subscriber.onNext(t);
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            subscriber.onError(e);
+        }
+
+        @Override
+        public void onCompleted() {
+            subscriber.onComplete();
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package com.aol.cyclops.rx;
 
+import java.util.Spliterator;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.stream.StreamSupport;
 
 import org.reactivestreams.Publisher;
 
@@ -26,8 +28,19 @@ public interface RxCyclops {
         return RxReactiveStreams.toPublisher(observable);
     }
 
+    /**
+     * Lazily convert an Observable into a ReactiveSeq. The Observable is subscribed to when the ReactiveSeq is
+     * traversed, its emissions are queued and drained on the consuming thread, so Observables that emit on other
+     * threads (e.g. via observeOn / subscribeOn) can be safely consumed.
+     * 
+     * @param observable Observable to convert
+     * @return ReactiveSeq over the values emitted by the Observable
+     */
     public static <T> ReactiveSeq<T> reactiveSeq(Observable<T> observable) {
-        return ReactiveSeq.fromPublisher(publisher(observable));
+        return ReactiveSeq.fromStream(StreamSupport.stream(() -> observable.toBlocking()
+                                                                           .toIterable()
+                                                                           .spliterator(),
+                                                           Spliterator.ORDERED, false));
     }
 
     public static <T> Observable<T> toObservable(Publisher<T> publisher) {
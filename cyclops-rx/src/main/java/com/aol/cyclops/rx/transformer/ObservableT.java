@@ -36,6 +36,7 @@ import com.aol.cyclops.types.anyM.AnyMSeq;
 import com.aol.cyclops.types.anyM.AnyMValue;
 
 import rx.Observable;
+import rx.Scheduler;
 
 /**
  * Monad Transformer for RxJava Observables
@@ -59,6 +60,80 @@ public interface ObservableT<T> extends FoldableTransformerSeq<T> {
 
     public <B> ObservableT<B> flatMap(Function<? super T, ? extends Observable<? extends B>> f);
 
+    /**
+     * Flat Map the wrapped Observable, subscribing to at most maxConcurrency inner Observables at a time
+     * 
+     * <pre>
+     * {@code 
+     *  ObservableT.fromIterable(ListX.of(Observable.range(1,1000)))
+     *             .flatMap(i->loadRemote(i),16);
+     *  
+     *  //no more than 16 calls to loadRemote in flight at once
+     * }
+     * </pre>
+     * 
+     * @param f FlatMap function
+     * @param maxConcurrency Maximum number of inner Observables subscribed to concurrently
+     * @return ObservableT that applies the flatMap function to the wrapped Observable
+     */
+    public <B> ObservableT<B> flatMap(Function<? super T, ? extends Observable<? extends B>> f, int maxConcurrency);
+
+    /**
+     * Flat Map the wrapped Observable, subscribing to each inner Observable only once the previous one has completed. 
+     * Results are emitted in the order of the source elements.
+     * 
+     * @param f FlatMap function
+     * @return ObservableT that applies the flatMap function to the wrapped Observable
+     */
+    public <B> ObservableT<B> concatMap(Function<? super T, ? extends Observable<? extends B>> f);
+
+    /**
+     * Flat Map the wrapped Observable, subscribing to up to maxConcurrency inner Observables concurrently while emitting
+     * results in the order of the source elements (via {@link Observable#concatMapEager(rx.functions.Func1, int, int)})
+     * 
+     * <pre>
+     * {@code 
+     *  ObservableT.fromIterable(ListX.of(Observable.just(1,2,3)))
+     *             .flatMapSequential(i->Observable.just(i,i*10),2,16);
+     *  
+     *  //ObservableT[Observable[1,10,2,20,3,30]]
+     * }
+     * </pre>
+     * 
+     * @param f FlatMap function
+     * @param maxConcurrency Maximum number of inner Observables subscribed to concurrently
+     * @param capacityHint Expected number of elements emitted by each inner Observable, used to size its buffer
+     * @return ObservableT that applies the flatMap function to the wrapped Observable
+     */
+    public <B> ObservableT<B> flatMapSequential(Function<? super T, ? extends Observable<? extends B>> f,
+            int maxConcurrency, int capacityHint);
+
+    /**
+     * Emit the elements of each wrapped Observable on the supplied Scheduler
+     * 
+     * <pre>
+     * {@code 
+     *  ObservableT.fromIterable(ListX.of(Observable.range(1,1000),Observable.range(1,1000)))
+     *             .observeOn(Schedulers.computation())
+     *             .map(this::expensiveOperation);
+     *  
+     *  //expensiveOperation is executed on the computation Scheduler for each wrapped Observable
+     * }
+     * </pre>
+     * 
+     * @param scheduler Scheduler to observe elements on
+     * @return ObservableT with observeOn applied to each wrapped Observable
+     */
+    public ObservableT<T> observeOn(Scheduler scheduler);
+
+    /**
+     * Subscribe to each wrapped Observable on the supplied Scheduler
+     * 
+     * @param scheduler Scheduler to subscribe on
+     * @return ObservableT with subscribeOn applied to each wrapped Observable
+     */
+    public ObservableT<T> subscribeOn(Scheduler scheduler);
+
     /**
      * @return The wrapped AnyM
      */
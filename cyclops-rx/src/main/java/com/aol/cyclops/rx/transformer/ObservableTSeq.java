@@ -1,8 +1,11 @@
 package com.aol.cyclops.rx.transformer;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Random;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
@@ -15,6 +18,7 @@ import java.util.stream.Collector;
 import java.util.stream.Stream;
 
 import org.jooq.lambda.Seq;
+import org.jooq.lambda.tuple.Tuple;
 import org.jooq.lambda.tuple.Tuple2;
 import org.jooq.lambda.tuple.Tuple3;
 import org.jooq.lambda.tuple.Tuple4;
@@ -30,6 +34,7 @@ import com.aol.cyclops.types.anyM.AnyMSeq;
 import com.aol.cyclops.types.stream.CyclopsCollectable;
 
 import rx.Observable;
+import rx.Scheduler;
 
 /**
  * Monad Transformer for Rx Observables
@@ -140,6 +145,45 @@ public class ObservableTSeq<T> implements ObservableT<T> {
                                           .<B> flatMap(a -> a)));
     }
 
+    /**
+     * Flat Map the wrapped Stream, subscribing to at most maxConcurrency of the resulting Observables at once
+     * 
+     * @param f FlatMap function
+     * @param maxConcurrency Maximum number of inner Observables subscribed to at once
+     * @return ObservableT that applies the flatMap function to the wrapped Stream with bounded concurrency
+     */
+    public <B> ObservableTSeq<B> flatMapT(Function<? super T, ObservableTSeq<? extends B>> f, int maxConcurrency) {
+        return of(run.map(stream -> stream.concatMap(a -> RxCyclops.toObservable(f.apply(a).run.stream()))
+                                          .<B> flatMap(a -> a, maxConcurrency)));
+    }
+
+    /**
+     * Flat Map the wrapped Stream, subscribing to the resulting Observables one at a time so that results keep the
+     * order of the source elements
+     * 
+     * @param f FlatMap function
+     * @return ObservableT that applies the flatMap function to the wrapped Stream sequentially
+     */
+    public <B> ObservableTSeq<B> concatMapT(Function<? super T, ObservableTSeq<? extends B>> f) {
+        return of(run.map(stream -> stream.concatMap(a -> RxCyclops.toObservable(f.apply(a).run.stream()))
+                                          .<B> concatMap(a -> a)));
+    }
+
+    /**
+     * Flat Map the wrapped Stream, subscribing to at most maxConcurrency of the resulting Observables at once and
+     * emitting their results in the order of the source elements
+     * 
+     * @param f FlatMap function
+     * @param maxConcurrency Maximum number of inner Observables subscribed to at once
+     * @param capacityHint Expected number of elements buffered for each inner Observable
+     * @return ObservableT that applies the flatMap function to the wrapped Stream with bounded concurrency, in order
+     */
+    public <B> ObservableTSeq<B> flatMapSequentialT(Function<? super T, ObservableTSeq<? extends B>> f,
+            int maxConcurrency, int capacityHint) {
+        return of(run.map(stream -> stream.concatMap(a -> RxCyclops.toObservable(f.apply(a).run.stream()))
+                                          .<B> concatMapEager(a -> a, capacityHint, maxConcurrency)));
+    }
+
     public <B> ObservableTSeq<B> flatMap(Function<? super T, ? extends Observable<? extends B>> f) {
 
         return new ObservableTSeq<B>(
@@ -147,6 +191,66 @@ public class ObservableTSeq<T> implements ObservableT<T> {
 
     }
 
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.aol.cyclops.rx.transformer.ObservableT#flatMap(java.util.function.Function, int)
+     */
+    @Override
+    public <B> ObservableTSeq<B> flatMap(Function<? super T, ? extends Observable<? extends B>> f, int maxConcurrency) {
+
+        return new ObservableTSeq<B>(
+                                     run.map(o -> o.flatMap(i -> f.apply(i), maxConcurrency)));
+
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.aol.cyclops.rx.transformer.ObservableT#concatMap(java.util.function.Function)
+     */
+    @Override
+    public <B> ObservableTSeq<B> concatMap(Function<? super T, ? extends Observable<? extends B>> f) {
+
+        return new ObservableTSeq<B>(
+                                     run.map(o -> o.concatMap(i -> f.apply(i))));
+
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.aol.cyclops.rx.transformer.ObservableT#flatMapSequential(java.util.function.Function, int, int)
+     */
+    @Override
+    public <B> ObservableTSeq<B> flatMapSequential(Function<? super T, ? extends Observable<? extends B>> f,
+            int maxConcurrency, int capacityHint) {
+
+        return new ObservableTSeq<B>(
+                                     run.map(o -> o.concatMapEager(i -> f.apply(i), capacityHint, maxConcurrency)));
+
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.aol.cyclops.rx.transformer.ObservableT#observeOn(rx.Scheduler)
+     */
+    @Override
+    public ObservableTSeq<T> observeOn(Scheduler scheduler) {
+        return of(run.map(observable -> observable.observeOn(scheduler)));
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.aol.cyclops.rx.transformer.ObservableT#subscribeOn(rx.Scheduler)
+     */
+    @Override
+    public ObservableTSeq<T> subscribeOn(Scheduler scheduler) {
+        return of(run.map(observable -> observable.subscribeOn(scheduler)));
+    }
+
     /**
      * Lift a function into one that accepts and returns an ObservableT
      * This allows multiple monad types to add functionality to existing functions and methods
@@ -235,6 +339,61 @@ public class ObservableTSeq<T> implements ObservableT<T> {
         return RxCyclops.toObservable(stream());
     }
 
+    /**
+     * Flatten the wrapped Observables by subscribing to up to maxConcurrent of them at once,
+     * emitting elements in the order they arrive. The latency is that of the slowest inner Observable
+     * (within each concurrency window) rather than the sum of them all, as with {@link #stream()}
+     *
+     * <pre>
+     * {@code
+     *  ObservableT.fromIterable(ListX.of(Observable.just(1,2),Observable.just(3)))
+     *             .mergedObservable(2);
+     *
+     *  //Observable[1,2,3] in arrival order
+     * }
+     * </pre>
+     *
+     * @param maxConcurrent Maximum number of inner Observables subscribed to at once
+     * @return Single Observable merging all wrapped Observables
+     */
+    public Observable<T> mergedObservable(int maxConcurrent) {
+        return Observable.merge(Observable.defer(() -> Observable.from(run.stream())), maxConcurrent);
+    }
+
+    /**
+     * @see #mergedObservable(int)
+     * @param maxConcurrent Maximum number of inner Observables subscribed to at once
+     * @return ReactiveSeq merging all wrapped Observables, in arrival order
+     */
+    public ReactiveSeq<T> mergedStream(int maxConcurrent) {
+        return ReactiveSeq.fromIterable(mergedObservable(maxConcurrent).toBlocking()
+                                                                       .toIterable());
+    }
+
+    /**
+     * Flatten the wrapped Observables by subscribing to up to maxConcurrent of them at once,
+     * but emit the elements of each inner Observable in the order the Observables are wrapped (the same order as {@link #stream()})
+     *
+     * @param maxConcurrent Maximum number of inner Observables subscribed to at once
+     * @param capacityHint Expected number of elements buffered from each inner Observable
+     * @return Single Observable merging all wrapped Observables in order
+     */
+    public Observable<T> orderedMergedObservable(int maxConcurrent, int capacityHint) {
+        return Observable.defer(() -> Observable.from(run.stream()))
+                         .concatMapEager(i -> i, capacityHint, maxConcurrent);
+    }
+
+    /**
+     * @see #orderedMergedObservable(int, int)
+     * @param maxConcurrent Maximum number of inner Observables subscribed to at once
+     * @param capacityHint Expected number of elements buffered from each inner Observable
+     * @return ReactiveSeq merging all wrapped Observables in order
+     */
+    public ReactiveSeq<T> orderedMergedStream(int maxConcurrent, int capacityHint) {
+        return ReactiveSeq.fromIterable(orderedMergedObservable(maxConcurrent, capacityHint).toBlocking()
+                                                                                             .toIterable());
+    }
+
     @Override
     public Iterator<T> iterator() {
         return stream().iterator();
@@ -404,7 +563,10 @@ public class ObservableTSeq<T> implements ObservableT<T> {
     @Override
     public ObservableTSeq<Tuple2<T, Long>> zipWithIndex() {
 
-        return (ObservableTSeq<Tuple2<T, Long>>) ObservableT.super.zipWithIndex();
+        return of(run.map(observable -> Observable.defer(() -> {
+            final long[] index = { 0 };
+            return observable.map(next -> Tuple.tuple(next, index[0]++));
+        })));
     }
 
     /*
@@ -417,7 +579,7 @@ public class ObservableTSeq<T> implements ObservableT<T> {
     @Override
     public ObservableTSeq<ListX<T>> sliding(int windowSize) {
 
-        return (ObservableTSeq<ListX<T>>) ObservableT.super.sliding(windowSize);
+        return sliding(windowSize, 1);
     }
 
     /*
@@ -429,8 +591,9 @@ public class ObservableTSeq<T> implements ObservableT<T> {
      */
     @Override
     public ObservableTSeq<ListX<T>> sliding(int windowSize, int increment) {
-
-        return (ObservableTSeq<ListX<T>>) ObservableT.super.sliding(windowSize, increment);
+        if (increment > windowSize)
+            return (ObservableTSeq<ListX<T>>) ObservableT.super.sliding(windowSize, increment);
+        return of(run.map(observable -> sliding(observable, windowSize, increment)));
     }
 
     /*
@@ -443,7 +606,12 @@ public class ObservableTSeq<T> implements ObservableT<T> {
     @Override
     public <C extends Collection<? super T>> ObservableTSeq<C> grouped(int size, Supplier<C> supplier) {
 
-        return (ObservableTSeq<C>) ObservableT.super.grouped(size, supplier);
+        return of(run.map(observable -> observable.buffer(size)
+                                                  .map(buffer -> {
+                                                      C group = supplier.get();
+                                                      group.addAll(buffer);
+                                                      return group;
+                                                  })));
     }
 
     /*
@@ -455,7 +623,7 @@ public class ObservableTSeq<T> implements ObservableT<T> {
     @Override
     public ObservableTSeq<ListX<T>> groupedUntil(Predicate<? super T> predicate) {
 
-        return (ObservableTSeq<ListX<T>>) ObservableT.super.groupedUntil(predicate);
+        return groupedUntil(predicate, () -> ListX.empty());
     }
 
     /*
@@ -479,7 +647,7 @@ public class ObservableTSeq<T> implements ObservableT<T> {
     @Override
     public ObservableTSeq<ListX<T>> groupedWhile(Predicate<? super T> predicate) {
 
-        return (ObservableTSeq<ListX<T>>) ObservableT.super.groupedWhile(predicate);
+        return groupedWhile(predicate, () -> ListX.empty());
     }
 
     /*
@@ -492,7 +660,7 @@ public class ObservableTSeq<T> implements ObservableT<T> {
     public <C extends Collection<? super T>> ObservableTSeq<C> groupedWhile(Predicate<? super T> predicate,
             Supplier<C> factory) {
 
-        return (ObservableTSeq<C>) ObservableT.super.groupedWhile(predicate, factory);
+        return groupedUntil(predicate.negate(), factory);
     }
 
     /*
@@ -505,7 +673,7 @@ public class ObservableTSeq<T> implements ObservableT<T> {
     public <C extends Collection<? super T>> ObservableTSeq<C> groupedUntil(Predicate<? super T> predicate,
             Supplier<C> factory) {
 
-        return (ObservableTSeq<C>) ObservableT.super.groupedUntil(predicate, factory);
+        return of(run.map(observable -> bufferUntil(observable, predicate, factory)));
     }
 
     /*
@@ -518,7 +686,8 @@ public class ObservableTSeq<T> implements ObservableT<T> {
     @Override
     public ObservableTSeq<ListX<T>> grouped(int groupSize) {
 
-        return (ObservableTSeq<ListX<T>>) ObservableT.super.grouped(groupSize);
+        return of(run.map(observable -> observable.buffer(groupSize)
+                                                  .map(ListX::fromIterable)));
     }
 
     /*
@@ -557,7 +726,7 @@ public class ObservableTSeq<T> implements ObservableT<T> {
     @Override
     public ObservableTSeq<T> distinct() {
 
-        return (ObservableTSeq<T>) ObservableT.super.distinct();
+        return of(run.map(observable -> observable.distinct()));
     }
 
     /*
@@ -570,7 +739,7 @@ public class ObservableTSeq<T> implements ObservableT<T> {
     @Override
     public ObservableTSeq<T> scanLeft(Monoid<T> monoid) {
 
-        return (ObservableTSeq<T>) ObservableT.super.scanLeft(monoid);
+        return scanLeft(monoid.zero(), monoid);
     }
 
     /*
@@ -583,7 +752,7 @@ public class ObservableTSeq<T> implements ObservableT<T> {
     @Override
     public <U> ObservableTSeq<U> scanLeft(U seed, BiFunction<? super U, ? super T, ? extends U> function) {
 
-        return (ObservableTSeq<U>) ObservableT.super.scanLeft(seed, function);
+        return of(run.map(observable -> observable.scan(seed, (acc, next) -> function.apply(acc, next))));
     }
 
     /*
@@ -621,7 +790,8 @@ public class ObservableTSeq<T> implements ObservableT<T> {
     @Override
     public ObservableTSeq<T> sorted() {
 
-        return (ObservableTSeq<T>) ObservableT.super.sorted();
+        return of(run.map(observable -> observable.toSortedList()
+                                                  .flatMapIterable(sorted -> sorted)));
     }
 
     /*
@@ -634,7 +804,8 @@ public class ObservableTSeq<T> implements ObservableT<T> {
     @Override
     public ObservableTSeq<T> sorted(Comparator<? super T> c) {
 
-        return (ObservableTSeq<T>) ObservableT.super.sorted(c);
+        return of(run.map(observable -> observable.toSortedList((a, b) -> c.compare(a, b))
+                                                  .flatMapIterable(sorted -> sorted)));
     }
 
     /*
@@ -647,7 +818,7 @@ public class ObservableTSeq<T> implements ObservableT<T> {
     @Override
     public ObservableTSeq<T> takeWhile(Predicate<? super T> p) {
 
-        return (ObservableTSeq<T>) ObservableT.super.takeWhile(p);
+        return limitWhile(p);
     }
 
     /*
@@ -660,7 +831,7 @@ public class ObservableTSeq<T> implements ObservableT<T> {
     @Override
     public ObservableTSeq<T> dropWhile(Predicate<? super T> p) {
 
-        return (ObservableTSeq<T>) ObservableT.super.dropWhile(p);
+        return skipWhile(p);
     }
 
     /*
@@ -673,7 +844,7 @@ public class ObservableTSeq<T> implements ObservableT<T> {
     @Override
     public ObservableTSeq<T> takeUntil(Predicate<? super T> p) {
 
-        return (ObservableTSeq<T>) ObservableT.super.takeUntil(p);
+        return limitUntil(p);
     }
 
     /*
@@ -686,7 +857,7 @@ public class ObservableTSeq<T> implements ObservableT<T> {
     @Override
     public ObservableTSeq<T> dropUntil(Predicate<? super T> p) {
 
-        return (ObservableTSeq<T>) ObservableT.super.dropUntil(p);
+        return skipUntil(p);
     }
 
     /*
@@ -699,7 +870,7 @@ public class ObservableTSeq<T> implements ObservableT<T> {
     @Override
     public ObservableTSeq<T> dropRight(int num) {
 
-        return (ObservableTSeq<T>) ObservableT.super.dropRight(num);
+        return skipLast(num);
     }
 
     /*
@@ -712,7 +883,7 @@ public class ObservableTSeq<T> implements ObservableT<T> {
     @Override
     public ObservableTSeq<T> takeRight(int num) {
 
-        return (ObservableTSeq<T>) ObservableT.super.takeRight(num);
+        return limitLast(num);
     }
 
     /*
@@ -724,7 +895,7 @@ public class ObservableTSeq<T> implements ObservableT<T> {
     @Override
     public ObservableTSeq<T> skip(long num) {
 
-        return (ObservableTSeq<T>) ObservableT.super.skip(num);
+        return of(run.map(observable -> observable.skip((int) Math.min(num, Integer.MAX_VALUE))));
     }
 
     /*
@@ -737,7 +908,7 @@ public class ObservableTSeq<T> implements ObservableT<T> {
     @Override
     public ObservableTSeq<T> skipWhile(Predicate<? super T> p) {
 
-        return (ObservableTSeq<T>) ObservableT.super.skipWhile(p);
+        return of(run.map(observable -> observable.skipWhile(p::test)));
     }
 
     /*
@@ -750,7 +921,7 @@ public class ObservableTSeq<T> implements ObservableT<T> {
     @Override
     public ObservableTSeq<T> skipUntil(Predicate<? super T> p) {
 
-        return (ObservableTSeq<T>) ObservableT.super.skipUntil(p);
+        return skipWhile(p.negate());
     }
 
     /*
@@ -763,7 +934,7 @@ public class ObservableTSeq<T> implements ObservableT<T> {
     @Override
     public ObservableTSeq<T> limit(long num) {
 
-        return (ObservableTSeq<T>) ObservableT.super.limit(num);
+        return of(run.map(observable -> observable.take((int) Math.min(num, Integer.MAX_VALUE))));
     }
 
     /*
@@ -776,7 +947,7 @@ public class ObservableTSeq<T> implements ObservableT<T> {
     @Override
     public ObservableTSeq<T> limitWhile(Predicate<? super T> p) {
 
-        return (ObservableTSeq<T>) ObservableT.super.limitWhile(p);
+        return of(run.map(observable -> observable.takeWhile(p::test)));
     }
 
     /*
@@ -789,7 +960,7 @@ public class ObservableTSeq<T> implements ObservableT<T> {
     @Override
     public ObservableTSeq<T> limitUntil(Predicate<? super T> p) {
 
-        return (ObservableTSeq<T>) ObservableT.super.limitUntil(p);
+        return limitWhile(p.negate());
     }
 
     /*
@@ -838,7 +1009,7 @@ public class ObservableTSeq<T> implements ObservableT<T> {
     @Override
     public ObservableTSeq<T> skipLast(int num) {
 
-        return (ObservableTSeq<T>) ObservableT.super.skipLast(num);
+        return of(run.map(observable -> observable.skipLast(num)));
     }
 
     /*
@@ -851,7 +1022,7 @@ public class ObservableTSeq<T> implements ObservableT<T> {
     @Override
     public ObservableTSeq<T> limitLast(int num) {
 
-        return (ObservableTSeq<T>) ObservableT.super.limitLast(num);
+        return of(run.map(observable -> observable.takeLast(num)));
     }
 
     /*
@@ -864,7 +1035,7 @@ public class ObservableTSeq<T> implements ObservableT<T> {
     @Override
     public ObservableTSeq<T> onEmpty(T value) {
 
-        return (ObservableTSeq<T>) ObservableT.super.onEmpty(value);
+        return of(run.map(observable -> observable.defaultIfEmpty(value)));
     }
 
     /*
@@ -927,7 +1098,50 @@ public class ObservableTSeq<T> implements ObservableT<T> {
      */
     @Override
     public <U extends Comparable<? super U>> ObservableTSeq<T> sorted(Function<? super T, ? extends U> function) {
-        return (ObservableTSeq) ObservableT.super.sorted(function);
+        return sorted((a, b) -> function.apply(a)
+                                        .compareTo(function.apply(b)));
+    }
+
+    /**
+     * Overlapping windows over a single Observable, built on {@link Observable#buffer(int, int)}. Only valid when
+     * increment &lt;= windowSize, Rx skips the elements between windows otherwise where
+     * {@link ReactiveSeq#sliding(int, int)} does not.
+     * 
+     * Rx emits trailing partial buffers for every remaining offset, windows whose contents are already
+     * covered by the previous window are dropped to match the semantics of {@link ReactiveSeq#sliding(int, int)}
+     */
+    private static <T> Observable<ListX<T>> sliding(Observable<T> observable, int windowSize, int increment) {
+        return Observable.defer(() -> {
+            final int[] previousSize = { -1 };
+            return observable.buffer(windowSize, increment)
+                             .filter(window -> {
+                                 boolean covered = previousSize[0] - increment >= window.size();
+                                 previousSize[0] = window.size();
+                                 return !covered;
+                             })
+                             .map(ListX::fromIterable);
+        });
+    }
+
+    /**
+     * Batch a single Observable into Collections, closing each batch (inclusively) on the first element that passes the
+     * supplied predicate. Any open batch is emitted when the Observable completes.
+     */
+    private static <T, C extends Collection<? super T>> Observable<C> bufferUntil(Observable<T> observable,
+            Predicate<? super T> predicate, Supplier<C> factory) {
+        return Observable.defer(() -> {
+            final List<C> open = new ArrayList<>(1);
+            return observable.concatMapIterable(next -> {
+                if (open.isEmpty())
+                    open.add(factory.get());
+                open.get(0)
+                    .add(next);
+                if (!predicate.test(next))
+                    return Collections.<C> emptyList();
+                return Collections.singletonList(open.remove(0));
+            })
+                             .concatWith(Observable.defer(() -> Observable.from(open)));
+        });
     }
 
     @Override
@@ -16,6 +16,7 @@ import com.aol.cyclops.types.anyM.AnyMValue;
 import com.aol.cyclops.types.stream.CyclopsCollectable;
 
 import rx.Observable;
+import rx.Scheduler;
 
 /**
  * Monad Transformer for Cyclops Streams
@@ -127,6 +128,45 @@ public class ObservableTValue<T> implements ObservableT<T> {
                                           .<B> flatMap(a -> a)));
     }
 
+    /**
+     * Flat Map the wrapped Stream, subscribing to at most maxConcurrency of the resulting Observables at once
+     * 
+     * @param f FlatMap function
+     * @param maxConcurrency Maximum number of inner Observables subscribed to at once
+     * @return ObservableT that applies the flatMap function to the wrapped Stream with bounded concurrency
+     */
+    public <B> ObservableTValue<B> flatMapT(Function<? super T, ObservableTValue<? extends B>> f, int maxConcurrency) {
+        return of(run.map(stream -> stream.concatMap(a -> RxCyclops.toObservable(f.apply(a).run.stream()))
+                                          .<B> flatMap(a -> a, maxConcurrency)));
+    }
+
+    /**
+     * Flat Map the wrapped Stream, subscribing to the resulting Observables one at a time so that results keep the
+     * order of the source elements
+     * 
+     * @param f FlatMap function
+     * @return ObservableT that applies the flatMap function to the wrapped Stream sequentially
+     */
+    public <B> ObservableTValue<B> concatMapT(Function<? super T, ObservableTValue<? extends B>> f) {
+        return of(run.map(stream -> stream.concatMap(a -> RxCyclops.toObservable(f.apply(a).run.stream()))
+                                          .<B> concatMap(a -> a)));
+    }
+
+    /**
+     * Flat Map the wrapped Stream, subscribing to at most maxConcurrency of the resulting Observables at once and
+     * emitting their results in the order of the source elements
+     * 
+     * @param f FlatMap function
+     * @param maxConcurrency Maximum number of inner Observables subscribed to at once
+     * @param capacityHint Expected number of elements buffered for each inner Observable
+     * @return ObservableT that applies the flatMap function to the wrapped Stream with bounded concurrency, in order
+     */
+    public <B> ObservableTValue<B> flatMapSequentialT(Function<? super T, ObservableTValue<? extends B>> f,
+            int maxConcurrency, int capacityHint) {
+        return of(run.map(stream -> stream.concatMap(a -> RxCyclops.toObservable(f.apply(a).run.stream()))
+                                          .<B> concatMapEager(a -> a, capacityHint, maxConcurrency)));
+    }
+
     public <B> ObservableTValue<B> flatMap(Function<? super T, ? extends Observable<? extends B>> f) {
 
         return new ObservableTValue<B>(
@@ -134,6 +174,66 @@ public class ObservableTValue<T> implements ObservableT<T> {
 
     }
 
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.aol.cyclops.rx.transformer.ObservableT#flatMap(java.util.function.Function, int)
+     */
+    @Override
+    public <B> ObservableTValue<B> flatMap(Function<? super T, ? extends Observable<? extends B>> f, int maxConcurrency) {
+
+        return new ObservableTValue<B>(
+                                       run.map(o -> o.flatMap(i -> f.apply(i), maxConcurrency)));
+
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.aol.cyclops.rx.transformer.ObservableT#concatMap(java.util.function.Function)
+     */
+    @Override
+    public <B> ObservableTValue<B> concatMap(Function<? super T, ? extends Observable<? extends B>> f) {
+
+        return new ObservableTValue<B>(
+                                       run.map(o -> o.concatMap(i -> f.apply(i))));
+
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.aol.cyclops.rx.transformer.ObservableT#flatMapSequential(java.util.function.Function, int, int)
+     */
+    @Override
+    public <B> ObservableTValue<B> flatMapSequential(Function<? super T, ? extends Observable<? extends B>> f,
+            int maxConcurrency, int capacityHint) {
+
+        return new ObservableTValue<B>(
+                                       run.map(o -> o.concatMapEager(i -> f.apply(i), capacityHint, maxConcurrency)));
+
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.aol.cyclops.rx.transformer.ObservableT#observeOn(rx.Scheduler)
+     */
+    @Override
+    public ObservableTValue<T> observeOn(Scheduler scheduler) {
+        return of(run.map(observable -> observable.observeOn(scheduler)));
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.aol.cyclops.rx.transformer.ObservableT#subscribeOn(rx.Scheduler)
+     */
+    @Override
+    public ObservableTValue<T> subscribeOn(Scheduler scheduler) {
+        return of(run.map(observable -> observable.subscribeOn(scheduler)));
+    }
+
     /**
      * Lift a function into one that accepts and returns an ObservableT
      * This allows multiple monad types to add functionality to existing functions and methods
@@ -0,0 +1,91 @@
+package com.aol.cyclops.rx;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Test;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import rx.Observable;
+import rx.Single;
+
+public class ReactorRxTest {
+
+    @Test
+    public void fluxToObservable() {
+        assertThat(ReactorRx.observable(Flux.just(1, 2, 3))
+                            .toList()
+                            .toBlocking()
+                            .single(),
+                   equalTo(Arrays.asList(1, 2, 3)));
+    }
+
+    @Test
+    public void fluxToObservableCancels() {
+        AtomicBoolean cancelled = new AtomicBoolean(false);
+        assertThat(ReactorRx.observable(Flux.just(1, 2, 3)
+                                            .doOnCancel(() -> cancelled.set(true)))
+                            .take(2)
+                            .toList()
+                            .toBlocking()
+                            .single(),
+                   equalTo(Arrays.asList(1, 2)));
+        assertThat(cancelled.get(), equalTo(true));
+    }
+
+    @Test
+    public void observableToFlux() {
+        assertThat(ReactorRx.flux(Observable.just(1, 2, 3))
+                            .collectList()
+                            .block(),
+                   equalTo(Arrays.asList(1, 2, 3)));
+    }
+
+    @Test
+    public void observableToFluxBackpressure() {
+        AtomicBoolean unsubscribed = new AtomicBoolean(false);
+        assertThat(ReactorRx.flux(Observable.range(1, 1000)
+                                            .doOnUnsubscribe(() -> unsubscribed.set(true)))
+                            .take(2)
+                            .collectList()
+                            .block(),
+                   equalTo(Arrays.asList(1, 2)));
+        assertThat(unsubscribed.get(), equalTo(true));
+    }
+
+    @Test
+    public void monoToSingle() {
+        assertThat(ReactorRx.single(Mono.just(1))
+                            .toBlocking()
+                            .value(),
+                   equalTo(1));
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void emptyMonoToSingle() {
+        ReactorRx.single(Mono.<Integer> empty())
+                 .toBlocking()
+                 .value();
+    }
+
+    @Test
+    public void monoToObservable() {
+        assertThat(ReactorRx.observable(Mono.just(1))
+                            .toList()
+                            .toBlocking()
+                            .single(),
+                   equalTo(Arrays.asList(1)));
+    }
+
+    @Test
+    public void singleToMono() {
+        assertThat(ReactorRx.mono(Single.just(1))
+                            .block(),
+                   equalTo(1));
+    }
+}
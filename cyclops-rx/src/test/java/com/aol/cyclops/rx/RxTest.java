@@ -1,8 +1,13 @@
 package com.aol.cyclops.rx;
 
 import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 
+import java.util.Iterator;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
 import org.jooq.lambda.tuple.Tuple;
 import org.jooq.lambda.tuple.Tuple2;
 import org.junit.Test;
@@ -13,6 +18,7 @@ import com.aol.cyclops.rx.RxCyclops.ForObservableTransformer;
 import com.aol.cyclops.rx.transformer.ObservableT;
 
 import rx.Observable;
+import rx.schedulers.Schedulers;
 
 public class RxTest {
 
@@ -65,4 +71,237 @@ public class RxTest {
                    equalTo(100));
     }
 
+    @Test
+    public void observableTFlatMapBounded() {
+        assertThat(ObservableT.fromIterable(ListX.of(Observable.just(1, 2, 3)))
+                              .flatMap(i -> Observable.just(i * 10), 2)
+                              .toListX()
+                              .size(),
+                   equalTo(3));
+    }
+
+    @Test
+    public void observableTConcatMap() {
+        assertThat(ObservableT.fromIterable(ListX.of(Observable.just(1, 2, 3)))
+                              .concatMap(i -> Observable.just(i, i * 10))
+                              .toListX(),
+                   equalTo(ListX.of(1, 10, 2, 20, 3, 30)));
+    }
+
+    @Test
+    public void observableTFlatMapSequential() {
+        assertThat(ObservableT.fromIterable(ListX.of(Observable.just(1, 2, 3)))
+                              .flatMapSequential(i -> Observable.timer(30 * (3 - i), TimeUnit.MILLISECONDS)
+                                                                .map(d -> i),
+                                                 3, 8)
+                              .toListX(),
+                   equalTo(ListX.of(1, 2, 3)));
+    }
+
+    @Test
+    public void observableTFlatMapTBounded() {
+        assertThat(ObservableT.fromIterable(ListX.of(Observable.just(1, 2, 3)))
+                              .flatMapT(i -> ObservableT.fromIterable(ListX.of(Observable.just(i, i * 10))), 2)
+                              .toListX()
+                              .sorted(),
+                   equalTo(ListX.of(1, 2, 3, 10, 20, 30)));
+    }
+
+    @Test
+    public void observableTConcatMapT() {
+        assertThat(ObservableT.fromIterable(ListX.of(Observable.just(1, 2, 3)))
+                              .concatMapT(i -> ObservableT.fromIterable(ListX.of(Observable.just(i, i * 10))))
+                              .toListX(),
+                   equalTo(ListX.of(1, 10, 2, 20, 3, 30)));
+    }
+
+    @Test
+    public void observableTFlatMapSequentialT() {
+        assertThat(ObservableT.fromIterable(ListX.of(Observable.just(1, 2, 3)))
+                              .flatMapSequentialT(i -> ObservableT.fromIterable(ListX.of(Observable.just(i, i * 10))),
+                                                  2, 8)
+                              .toListX(),
+                   equalTo(ListX.of(1, 10, 2, 20, 3, 30)));
+    }
+
+    @Test
+    public void observableTObserveOn() {
+        assertThat(ObservableT.fromIterable(ListX.of(Observable.just(1, 2), Observable.just(3)))
+                              .observeOn(Schedulers.computation())
+                              .map(i -> Thread.currentThread()
+                                              .getName()
+                                              .startsWith("RxComputation"))
+                              .toListX(),
+                   equalTo(ListX.of(true, true, true)));
+    }
+
+    @Test
+    public void observableTSubscribeOn() {
+        assertThat(ObservableT.fromIterable(ListX.of(Observable.just(1, 2), Observable.just(3)))
+                              .subscribeOn(Schedulers.io())
+                              .map(i -> Thread.currentThread()
+                                              .getName()
+                                              .startsWith("RxCachedThreadScheduler"))
+                              .toListX(),
+                   equalTo(ListX.of(true, true, true)));
+    }
+
+    @Test
+    public void observableTObserveOnStream() {
+        assertThat(ObservableT.fromIterable(ListX.of(Observable.range(1, 1000), Observable.range(1001, 1000)))
+                              .observeOn(Schedulers.computation())
+                              .toListX(),
+                   equalTo(ListX.range(1, 2001)));
+    }
+
+    @Test
+    public void observableTSubscribeOnStream() {
+        assertThat(ObservableT.fromIterable(ListX.of(Observable.range(1, 1000), Observable.range(1001, 1000)))
+                              .subscribeOn(Schedulers.io())
+                              .toListX(),
+                   equalTo(ListX.range(1, 2001)));
+    }
+
+    @Test
+    public void observableTMergedStream() {
+        CountDownLatch firstConsumed = new CountDownLatch(1);
+        Observable<Integer> slow = Observable.fromCallable(() -> firstConsumed.await(5, TimeUnit.SECONDS) ? 1 : -1)
+                                             .subscribeOn(Schedulers.io());
+        Iterator<Integer> merged = ObservableT.fromIterable(ListX.of(slow, Observable.just(2)))
+                                              .mergedStream(2)
+                                              .iterator();
+        assertThat(merged.next(), equalTo(2));
+        firstConsumed.countDown();
+        assertThat(merged.next(), equalTo(1));
+        assertFalse(merged.hasNext());
+    }
+
+    @Test
+    public void observableTOrderedMergedStream() {
+        CountDownLatch lastSubscribed = new CountDownLatch(1);
+        Observable<Integer> slow = Observable.fromCallable(() -> lastSubscribed.await(5, TimeUnit.SECONDS) ? 1 : -1)
+                                             .subscribeOn(Schedulers.io());
+        Observable<Integer> fast = Observable.defer(() -> {
+            lastSubscribed.countDown();
+            return Observable.just(2);
+        });
+        assertThat(ObservableT.fromIterable(ListX.of(slow, fast))
+                              .orderedMergedStream(2, 8)
+                              .toListX(),
+                   equalTo(ListX.of(1, 2)));
+    }
+
+    private static ObservableT<Integer> range(int start, int end) {
+        return ObservableT.fromIterable(ListX.of(Observable.range(start, end - start)));
+    }
+
+    @Test
+    public void observableTSkipLimitLong() {
+        assertThat(range(1, 4).limit(Long.MAX_VALUE)
+                              .toListX(),
+                   equalTo(ListX.of(1, 2, 3)));
+        assertThat(range(1, 4).skip(Long.MAX_VALUE)
+                              .toListX(),
+                   equalTo(ListX.empty()));
+        assertThat(range(1, 4).skip(1)
+                              .limit(1)
+                              .toListX(),
+                   equalTo(ListX.of(2)));
+    }
+
+    @Test
+    public void observableTSliding() {
+        assertThat(range(1, 6).sliding(3, 1)
+                              .toListX(),
+                   equalTo(ReactiveSeq.range(1, 6)
+                                      .sliding(3, 1)
+                                      .toListX()));
+        assertThat(range(1, 6).sliding(2, 2)
+                              .toListX(),
+                   equalTo(ReactiveSeq.range(1, 6)
+                                      .sliding(2, 2)
+                                      .toListX()));
+        assertThat(range(1, 8).sliding(2, 3)
+                              .toListX(),
+                   equalTo(ReactiveSeq.range(1, 8)
+                                      .sliding(2, 3)
+                                      .toListX()));
+        assertThat(range(1, 1).sliding(2, 1)
+                              .toListX(),
+                   equalTo(ListX.empty()));
+    }
+
+    @Test
+    public void observableTGrouped() {
+        assertThat(range(1, 6).grouped(2)
+                              .toListX(),
+                   equalTo(ListX.of(ListX.of(1, 2), ListX.of(3, 4), ListX.of(5))));
+        assertThat(range(1, 1).grouped(2)
+                              .toListX(),
+                   equalTo(ListX.empty()));
+    }
+
+    @Test
+    public void observableTGroupedUntilAndWhile() {
+        assertThat(range(1, 8).groupedUntil(i -> i % 3 == 0)
+                              .toListX(),
+                   equalTo(ListX.of(ListX.of(1, 2, 3), ListX.of(4, 5, 6), ListX.of(7))));
+        assertThat(range(1, 8).groupedWhile(i -> i % 3 != 0)
+                              .toListX(),
+                   equalTo(ReactiveSeq.range(1, 8)
+                                      .groupedWhile(i -> i % 3 != 0)
+                                      .toListX()));
+        assertThat(range(1, 1).groupedUntil(i -> true)
+                              .toListX(),
+                   equalTo(ListX.empty()));
+    }
+
+    @Test
+    public void observableTZipWithIndex() {
+        assertThat(ObservableT.fromIterable(ListX.of(Observable.just("a", "b")))
+                              .zipWithIndex()
+                              .toListX(),
+                   equalTo(ListX.of(Tuple.tuple("a", 0L), Tuple.tuple("b", 1L))));
+        assertThat(range(1, 1).zipWithIndex()
+                              .toListX(),
+                   equalTo(ListX.empty()));
+    }
+
+    @Test
+    public void observableTScanLeft() {
+        assertThat(range(1, 4).scanLeft(0, (a, b) -> a + b)
+                              .toListX(),
+                   equalTo(ReactiveSeq.range(1, 4)
+                                      .scanLeft(0, (a, b) -> a + b)
+                                      .toListX()));
+        assertThat(range(1, 1).scanLeft(0, (a, b) -> a + b)
+                              .toListX(),
+                   equalTo(ListX.of(0)));
+    }
+
+    @Test
+    public void observableTSortedAndDistinct() {
+        assertThat(ObservableT.fromIterable(ListX.of(Observable.just(3, 1, 2, 1)))
+                              .distinct()
+                              .sorted()
+                              .toListX(),
+                   equalTo(ListX.of(1, 2, 3)));
+    }
+
+    @Test
+    public void observableTLastAndWhile() {
+        assertThat(range(1, 6).skipLast(2)
+                              .toListX(),
+                   equalTo(ListX.of(1, 2, 3)));
+        assertThat(range(1, 6).limitLast(2)
+                              .toListX(),
+                   equalTo(ListX.of(4, 5)));
+        assertThat(range(1, 6).skipWhile(i -> i < 3)
+                              .limitUntil(i -> i > 4)
+                              .toListX(),
+                   equalTo(ListX.of(3, 4)));
+        assertThat(range(1, 1).onEmpty(-1)
+                              .toListX(),
+                   equalTo(ListX.of(-1)));
+    }
 }